@@ -0,0 +1,2173 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * Asynchronous facade over a {@link SQLImplementation}.
+ *
+ * <p>Every operation runs on a bounded executor owned by the instance, sized like the
+ * connection pool, so queries never block the calling thread and never oversubscribe the pool.
+ * Failures complete the returned future exceptionally with the thrown {@link SQLException}.</p>
+ */
+public class AsyncSQL {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
+
+    private final SQLImplementation sql;
+    private final ThreadPoolExecutor executor;
+    private final ThreadLocal<Boolean> worker = new ThreadLocal<>();
+
+    AsyncSQL(SQLImplementation sql, int threads, int queueSize) {
+        if (threads < 1) throw new IllegalArgumentException("Threads must be at least 1");
+        if (queueSize < 1) throw new IllegalArgumentException("Queue size must be at least 1");
+
+        this.sql = sql;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), runnable -> {
+            Thread thread = new Thread(() -> {
+                worker.set(Boolean.TRUE);
+                runnable.run();
+            }, "ragcore-sql-" + sql.getTable() + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Return true if the current thread belongs to the executor of this instance,
+     * a task running on it must not wait for other tasks of the executor.
+     *
+     * @return true if called by an executor thread
+     */
+    boolean isWorker() {
+        return worker.get() != null;
+    }
+
+    /**
+     * Return the number of operations waiting for a free thread.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Return the number of operations that can still be queued before new ones are rejected.
+     *
+     * @return the remaining queue capacity
+     */
+    public int getRemainingCapacity() {
+        return executor.getQueue().remainingCapacity();
+    }
+
+    /**
+     * Return the number of operations currently running.
+     *
+     * @return the number of active threads
+     */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * Return the maximum number of operations running at the same time.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Return the number of operations completed by this instance.
+     *
+     * @return the number of completed operations
+     */
+    public long getCompletedCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    /**
+     * Stops accepting new operations and waits for the queued ones to complete.
+     *
+     * @param timeout the maximum time to wait
+     * @param unit    the unit of the timeout
+     * @return true if every queued operation completed before the timeout
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit unit) {
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Runs a custom operation on the executor of this instance.
+     * Cancelling the returned future cancels the statement the operation is running and skips the next ones.
+     *
+     * @param task the operation to run
+     * @param <T>  the type of the result
+     * @return a future completed with the result of the operation
+     */
+    public <T> CompletableFuture<T> supply(@NotNull SQLTask<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Cancellation cancellation = new Cancellation();
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) cancellation.cancel();
+        });
+        try {
+            executor.execute(() -> {
+                if (future.isDone()) return;
+                cancellation.bind();
+                try {
+                    future.complete(task.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    cancellation.unbind();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Runs a custom operation without result on the executor of this instance.
+     *
+     * @param task the operation to run
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> run(@NotNull SQLRunnable task) {
+        return supply(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Return the ping with the database.
+     *
+     * @return a future completed with the ping in milliseconds with the database
+     */
+    public CompletableFuture<Long> ping() {
+        return supply(() -> sql.ping());
+    }
+
+    /**
+     * Executes a given MySQL query.
+     *
+     * @param query the query to be executed
+     * @return a future completed with the CompositeResult of the query
+     */
+    public CompletableFuture<CompositeResult> executeQuery(@NotNull String query) {
+        return supply(() -> sql.executeQuery(query));
+    }
+
+    /**
+     * Executes a given parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return a future completed with the CompositeResult of the query
+     */
+    public CompletableFuture<CompositeResult> executeQuery(@NotNull String query, Object... parameters) {
+        return supply(() -> sql.executeQuery(query, parameters));
+    }
+
+    /**
+     * Executes a given parameterized MySQL query on a read connection of the connector, a replica if the connector
+     * has some. The replica can lag behind the primary, the query may not see the latest writes.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return a future completed with the CompositeResult of the query
+     */
+    public CompletableFuture<CompositeResult> executeReadOnlyQuery(@NotNull String query, Object... parameters) {
+        return supply(() -> sql.executeReadOnlyQuery(query, parameters));
+    }
+
+    /**
+     * Executes an update given a MySQL query.
+     *
+     * @param query the query to be executed
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> executeUpdate(@NotNull String query) {
+        return run(() -> sql.executeUpdate(query));
+    }
+
+    /**
+     * Executes an update given a parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> executeUpdate(@NotNull String query, Object... parameters) {
+        return run(() -> sql.executeUpdate(query, parameters));
+    }
+
+    /**
+     * Executes a parameterized MySQL query once for each set of parameters as a JDBC batch in a single transaction.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind for each execution
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> executeBatch(@NotNull String query, @NotNull Collection<Object[]> parameters) {
+        return run(() -> sql.executeBatch(query, parameters));
+    }
+
+    /**
+     * Writes every mutation queued by the write-behind mode.
+     *
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> flush() {
+        return run(sql::flush);
+    }
+
+    /**
+     * Creates a new table if it is not present in the database.
+     *
+     * @param args    the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
+     * @param charset the default character set
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> createTable(@NotNull String[] args, String charset) {
+        return run(() -> sql.createTable(args, charset));
+    }
+
+    /**
+     * Creates a new table if it is not present in the database.
+     *
+     * @param args the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> createTable(@NotNull String[] args) {
+        return run(() -> sql.createTable(args));
+    }
+
+    /**
+     * Creates an index on the given columns if it is not present in the database.
+     *
+     * @param name    the name of the index
+     * @param unique  true to create a UNIQUE index
+     * @param columns the indexed columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> createIndex(@NotNull String name, boolean unique, @NotNull String... columns) {
+        return run(() -> sql.createIndex(name, unique, columns));
+    }
+
+    /**
+     * Adds a new line to the table assigning the given values to the given columns.
+     *
+     * @param columns the list of columns to edit
+     * @param values  the list of values to be added to the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> addLine(@NotNull String[] columns, Object[] values) {
+        return run(() -> sql.addLine(columns, values));
+    }
+
+    /**
+     * Adds a new line to the table assigning the given value to the given column.
+     *
+     * @param column the column to edit
+     * @param value  the value to be added to the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> addLine(@NotNull String column, Object value) {
+        return run(() -> sql.addLine(column, value));
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are sent in batches of 500 with multi-row INSERT statements, in a single transaction.
+     *
+     * @param columns the list of columns to edit
+     * @param rows    the values of each line, in the order of the columns
+     * @return a future completed with the number of lines added
+     */
+    public CompletableFuture<Long> addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows) {
+        return supply(() -> sql.addLines(columns, rows));
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are read lazily from the iterable and sent in batches with multi-row INSERT statements,
+     * so the memory used does not depend on the number of lines. Every line is added in a single transaction:
+     * if one of them fails none is added. The lines are written immediately even in write-behind mode
+     * and the whole read cache is invalidated.
+     *
+     * @param columns   the list of columns to edit
+     * @param rows      the values of each line, in the order of the columns
+     * @param batchSize the number of lines sent to the database at once, rounded up to fill the last multi-row statement
+     * @param progress  called after each batch with the number of lines sent so far, may be null
+     * @return a future completed with the number of lines added
+     */
+    public CompletableFuture<Long> addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows, int batchSize, LongConsumer progress) {
+        return supply(() -> sql.addLines(columns, rows, batchSize, progress));
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> removeLine(@NotNull String[] columns, Object[] values) {
+        return run(() -> sql.removeLine(columns, values));
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> removeLine(@NotNull String column, Object value) {
+        return run(() -> sql.removeLine(column, value));
+    }
+
+    /**
+     * Checks if a line exists with the given values in the given columns.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> lineExists(@NotNull String[] columns, Object[] values) {
+        return supply(() -> sql.lineExists(columns, values));
+    }
+
+    /**
+     * Checks if a line exists with the given value in the given column.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> lineExists(@NotNull String column, Object value) {
+        return supply(() -> sql.lineExists(column, value));
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getByte(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getByte(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getByte(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getByte(columns, values, search));
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getByte(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getByte(column, value, search, row));
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getByte(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getByte(column, value, search));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getShort(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getShort(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getShort(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getShort(columns, values, search));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getShort(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getShort(column, value, search, row));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getShort(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getShort(column, value, search));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getInteger(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getInteger(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getInteger(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getInteger(columns, values, search));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getInteger(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getInteger(column, value, search, row));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getInteger(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getInteger(column, value, search));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLong(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getLong(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLong(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLong(columns, values, search));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLong(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getLong(column, value, search, row));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLong(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLong(column, value, search));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getFloat(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getFloat(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getFloat(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getFloat(columns, values, search));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getFloat(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getFloat(column, value, search, row));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getFloat(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getFloat(column, value, search));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getDouble(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getDouble(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getDouble(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getDouble(columns, values, search));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getDouble(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getDouble(column, value, search, row));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getDouble(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getDouble(column, value, search));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getString(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getString(columns, values, search, row));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getString(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getString(columns, values, search));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getString(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getString(column, value, search, row));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getString(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getString(column, value, search));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getBoolean(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getBoolean(columns, values, search));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> getBoolean(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getBoolean(column, value, search, row));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with boolean
+     */
+    public CompletableFuture<Boolean> getBoolean(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getBoolean(column, value, search));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getTimestamp(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getTimestamp(columns, values, search));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getTimestamp(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getTimestamp(column, value, search, row));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getTimestamp(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getTimestamp(column, value, search));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getDate(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getDate(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getDate(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getDate(columns, values, search));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getDate(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getDate(column, value, search, row));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getDate(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getDate(column, value, search));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getTime(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getTime(columns, values, search, row));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getTime(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getTime(columns, values, search));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getTime(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getTime(column, value, search, row));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getTime(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getTime(column, value, search));
+    }
+
+    /**
+     * Gets an object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getObject(@NotNull String[] columns, Object[] values, @NotNull String search, int row) {
+        return supply(() -> sql.getObject(columns, values, search, row));
+    }
+
+    /**
+     * Gets an object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getObject(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getObject(columns, values, search));
+    }
+
+    /**
+     * Gets an object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getObject(@NotNull String column, Object value, @NotNull String search, int row) {
+        return supply(() -> sql.getObject(column, value, search, row));
+    }
+
+    /**
+     * Gets an object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getObject(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getObject(column, value, search));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param <T> custom type
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, int row) {
+        return supply(() -> sql.getObject(columns, values, search, type, row));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param <T> custom type
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getObject(columns, values, search, type));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param <T> custom type
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, int row) {
+        return supply(() -> sql.getObject(column, value, search, type, row));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param <T> custom type
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getObject(column, value, search, type));
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param <T> custom type
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the ArrayList
+     * @return a future completed with list
+     */
+    public <T> CompletableFuture<List<T>> getList(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getList(columns, values, search, type));
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param <T> custom type
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the ArrayList
+     * @return a future completed with list
+     */
+    public <T> CompletableFuture<List<T>> getList(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getList(column, value, search, type));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<int[]> getIntArray(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getIntArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<int[]> getIntArray(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getIntArray(column, value, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<long[]> getLongArray(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLongArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<long[]> getLongArray(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLongArray(column, value, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<double[]> getDoubleArray(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getDoubleArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with the values, in the order returned by the database
+     */
+    public CompletableFuture<double[]> getDoubleArray(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getDoubleArray(column, value, search));
+    }
+
+    /**
+     * Gets the last Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastByte(columns, values, search));
+    }
+
+    /**
+     * Gets the last Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with byte
+     */
+    public CompletableFuture<Byte> getLastByte(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastByte(column, value, search));
+    }
+
+    /**
+     * Gets the last Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastShort(columns, values, search));
+    }
+
+    /**
+     * Gets the last Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with short
+     */
+    public CompletableFuture<Short> getLastShort(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastShort(column, value, search));
+    }
+
+    /**
+     * Gets the last Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastInteger(columns, values, search));
+    }
+
+    /**
+     * Gets the last Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with integer
+     */
+    public CompletableFuture<Integer> getLastInteger(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastInteger(column, value, search));
+    }
+
+    /**
+     * Gets the last Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastLong(columns, values, search));
+    }
+
+    /**
+     * Gets the last Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with long
+     */
+    public CompletableFuture<Long> getLastLong(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastLong(column, value, search));
+    }
+
+    /**
+     * Gets the last Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastFloat(columns, values, search));
+    }
+
+    /**
+     * Gets the last Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with float
+     */
+    public CompletableFuture<Float> getLastFloat(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastFloat(column, value, search));
+    }
+
+    /**
+     * Gets the last Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastDouble(columns, values, search));
+    }
+
+    /**
+     * Gets the last Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with double
+     */
+    public CompletableFuture<Double> getLastDouble(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastDouble(column, value, search));
+    }
+
+    /**
+     * Gets the last String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getLastString(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastString(columns, values, search));
+    }
+
+    /**
+     * Gets the last String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with string
+     */
+    public CompletableFuture<String> getLastString(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastString(column, value, search));
+    }
+
+    /**
+     * Gets the last Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastTimestamp(columns, values, search));
+    }
+
+    /**
+     * Gets the last Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with timestamp
+     */
+    public CompletableFuture<Timestamp> getLastTimestamp(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastTimestamp(column, value, search));
+    }
+
+    /**
+     * Gets the last Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastDate(columns, values, search));
+    }
+
+    /**
+     * Gets the last Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with date
+     */
+    public CompletableFuture<Date> getLastDate(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastDate(column, value, search));
+    }
+
+    /**
+     * Gets the last Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastTime(columns, values, search));
+    }
+
+    /**
+     * Gets the last Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with time
+     */
+    public CompletableFuture<Time> getLastTime(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastTime(column, value, search));
+    }
+
+    /**
+     * Gets the last Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search) {
+        return supply(() -> sql.getLastObject(columns, values, search));
+    }
+
+    /**
+     * Gets the last Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return a future completed with object
+     */
+    public CompletableFuture<Object> getLastObject(@NotNull String column, Object value, @NotNull String search) {
+        return supply(() -> sql.getLastObject(column, value, search));
+    }
+
+    /**
+     * Gets the last T object from the database.
+     *
+     * @param <T> custom type
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getLastObject(columns, values, search, type));
+    }
+
+    /**
+     * Gets the last T object from the database.
+     *
+     * @param <T> custom type
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @return a future completed with t
+     */
+    public <T> CompletableFuture<T> getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) {
+        return supply(() -> sql.getLastObject(column, value, search, type));
+    }
+
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Byte> getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastByte(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Byte> getLastByte(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastByte(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Short> getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastShort(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Short> getLastShort(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastShort(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Integer> getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastInteger(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Integer> getLastInteger(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastInteger(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Long> getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastLong(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Long> getLastLong(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastLong(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Float> getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastFloat(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Float> getLastFloat(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastFloat(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Double> getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastDouble(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Double> getLastDouble(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastDouble(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<String> getLastString(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastString(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<String> getLastString(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastString(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Boolean> getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastBoolean(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Boolean> getLastBoolean(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastBoolean(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Timestamp> getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastTimestamp(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Timestamp> getLastTimestamp(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastTimestamp(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Date> getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastDate(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Date> getLastDate(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastDate(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Time> getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastTime(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Time> getLastTime(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastTime(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Object> getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastObject(columns, values, search, orderBy));
+    }
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public CompletableFuture<Object> getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) {
+        return supply(() -> sql.getLastObject(column, value, search, orderBy));
+    }
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public <T> CompletableFuture<T> getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) {
+        return supply(() -> sql.getLastObject(columns, values, search, type, orderBy));
+    }
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @return a future completed with the result
+     */
+    public <T> CompletableFuture<T> getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) {
+        return supply(() -> sql.getLastObject(column, value, search, type, orderBy));
+    }
+
+    /**
+     * Gets the first row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the Row, or null if no line matches
+     */
+    public CompletableFuture<Row> getRow(@NotNull String[] columns, Object[] values, @NotNull String... projection) {
+        return supply(() -> sql.getRow(columns, values, projection));
+    }
+
+    /**
+     * Gets the first row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the Row, or null if no line matches
+     */
+    public CompletableFuture<Row> getRow(@NotNull String column, Object value, @NotNull String... projection) {
+        return supply(() -> sql.getRow(column, value, projection));
+    }
+
+    /**
+     * Gets every row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the list of Row
+     */
+    public CompletableFuture<List<Row>> getRows(@NotNull String[] columns, Object[] values, @NotNull String... projection) {
+        return supply(() -> sql.getRows(columns, values, projection));
+    }
+
+    /**
+     * Gets every row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the list of Row
+     */
+    public CompletableFuture<List<Row>> getRows(@NotNull String column, Object value, @NotNull String... projection) {
+        return supply(() -> sql.getRows(column, value, projection));
+    }
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination: the rows are ordered by the given
+     * columns and the page starts after the given key, so no row before it is scanned.
+     * The ordering columns should not contain NULL and together they should be unique
+     * (ex. the score followed by the primary key), otherwise rows with the same key can be skipped.
+     *
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @param orderColumns the columns used to order the rows, an index starting with them makes every page cheap
+     * @param descending   true to order the rows from the greatest
+     * @param afterKey     the values of the ordering columns after which the page starts,
+     *                     the {@link Page#getNextKey()} of the previous page or null for the first page
+     * @param limit        the maximum number of rows of the page
+     * @param projection   the names of the columns whose values are wanted, all the columns if empty.
+     *                     The ordering columns are read even if they are not in the projection
+     * @return a future completed with the Page
+     */
+    public CompletableFuture<Page> page(@NotNull String[] columns, Object[] values, @NotNull String[] orderColumns, boolean descending, Object[] afterKey, int limit, @NotNull String... projection) {
+        return supply(() -> sql.page(columns, values, orderColumns, descending, afterKey, limit, projection));
+    }
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination, ordered by a unique column.
+     *
+     * @param columns     the list of columns for the research
+     * @param values      the list of values to be searched in the columns
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the Page
+     */
+    public CompletableFuture<Page> page(@NotNull String[] columns, Object[] values, @NotNull String orderColumn, Object[] afterKey, int limit, @NotNull String... projection) {
+        return supply(() -> sql.page(columns, values, orderColumn, afterKey, limit, projection));
+    }
+
+    /**
+     * Gets a page of the rows matching the given value with keyset pagination, ordered by a unique column.
+     *
+     * @param column      the column for the research
+     * @param value       the value to be searched in the column
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return a future completed with the Page
+     */
+    public CompletableFuture<Page> page(@NotNull String column, Object value, @NotNull String orderColumn, Object[] afterKey, int limit, @NotNull String... projection) {
+        return supply(() -> sql.page(column, value, orderColumn, afterKey, limit, projection));
+    }
+
+    /**
+     * Gets the rows whose key column has one of the given values, with one query for every 500 keys.
+     * The queries run concurrently.
+     *
+     * @param keyColumn  the key column, it should be unique
+     * @param keys       the values of the key column, null values are ignored
+     * @param projection the names of the columns whose values are wanted, all the columns if empty.
+     *                   The key column is read even if it is not in the projection
+     * @param <K>        the type of the keys
+     * @return a future completed with the Row of every key found, the keys without a line are missing
+     */
+    public <K> CompletableFuture<Map<K, Row>> getMany(@NotNull String keyColumn, @NotNull Collection<K> keys, @NotNull String... projection) {
+        return supply(() -> sql.getMany(keyColumn, keys, projection));
+    }
+
+    /**
+     * Loads the entity whose key column has the given value.
+     * The fields of the class annotated with {@link Exposed} are read with a single query.
+     *
+     * @param type the class of the entity, it must have a constructor without parameters
+     *             and a field annotated with {@code @Exposed(key = true)}
+     * @param key  the value of the key column
+     * @param <T>  the type of the entity
+     * @return a future completed with the entity, or null if no line has the given key
+     */
+    public <T> CompletableFuture<T> load(@NotNull Class<T> type, @NotNull Object key) {
+        return supply(() -> sql.load(type, key));
+    }
+
+    /**
+     * Saves an entity: the line with its key is updated, or added if it does not exist.
+     * Read-only fields are never written and the entity is written immediately even in write-behind mode.
+     *
+     * @param entity the entity to save
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> save(@NotNull Object entity) {
+        return run(() -> sql.save(entity));
+    }
+
+    /**
+     * Saves a collection of entities, grouped by class and written as JDBC batches:
+     * the lines with their keys are updated and the missing ones are added.
+     * Read-only fields are never written and the entities are written immediately even in write-behind mode.
+     *
+     * @param entities the entities to save
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> saveAll(@NotNull Collection<?> entities) {
+        return run(() -> sql.saveAll(entities));
+    }
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key columns must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param keyValues  the list of values of the key
+     * @param columns    the list of columns to edit
+     * @param values     the list of values to be assigned to the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> upsert(@NotNull String[] keyColumns, Object[] keyValues, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.upsert(keyColumns, keyValues, columns, values));
+    }
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param columns   the list of columns to edit
+     * @param values    the list of values to be assigned to the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> upsert(@NotNull String keyColumn, Object keyValue, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.upsert(keyColumn, keyValue, columns, values));
+    }
+
+    /**
+     * Adds a line with the given key, or updates its column if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param column    the column to edit
+     * @param value     the value to be assigned to the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> upsert(@NotNull String keyColumn, Object keyValue, @NotNull String column, Object value) {
+        return run(() -> sql.upsert(keyColumn, keyValue, column, value));
+    }
+
+    /**
+     * Upserts many lines as a JDBC batch in a single transaction.
+     * The lines are written immediately even in write-behind mode and the whole read cache is invalidated.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param columns    the list of columns to edit
+     * @param rows       the values of each line: the key values followed by the values of the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> upsertAll(@NotNull String[] keyColumns, @NotNull String[] columns, @NotNull Collection<Object[]> rows) {
+        return run(() -> sql.upsertAll(keyColumns, columns, rows));
+    }
+
+    /**
+     * Runs the given block in a transaction: the operations made in the block use a single connection
+     * and are committed together when it returns, or rolled back if it throws.
+     * A block rolled back by a deadlock is run again.
+     *
+     * @param work the block of operations
+     * @return a future completed when the transaction is committed
+     */
+    public CompletableFuture<Void> transaction(@NotNull Transaction.Work work) {
+        return run(() -> sql.transaction(work));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newObjects    the list of new values
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> set(@NotNull String[] columnsToEdit, Object[] newObjects, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.set(columnsToEdit, newObjects, columns, values));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newObject    the new value
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> set(@NotNull String columnToEdit, Object newObject, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.set(columnToEdit, newObject, columns, values));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newObjects    the list of new values
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> set(@NotNull String[] columnsToEdit, Object[] newObjects, @NotNull String column, Object value) {
+        return run(() -> sql.set(columnsToEdit, newObjects, column, value));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newObject    the new value
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> set(@NotNull String columnToEdit, Object newObject, @NotNull String column, Object value) {
+        return run(() -> sql.set(columnToEdit, newObject, column, value));
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.increment(columnsToEdit, deltas, columns, values));
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.increment(columnToEdit, delta, columns, values));
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) {
+        return run(() -> sql.increment(columnsToEdit, deltas, column, value));
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) {
+        return run(() -> sql.increment(columnToEdit, delta, column, value));
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.decrement(columnsToEdit, deltas, columns, values));
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) {
+        return run(() -> sql.decrement(columnToEdit, delta, columns, values));
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) {
+        return run(() -> sql.decrement(columnsToEdit, deltas, column, value));
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @return a future completed when the operation is done
+     */
+    public CompletableFuture<Void> decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) {
+        return run(() -> sql.decrement(columnToEdit, delta, column, value));
+    }
+
+    /**
+     * An operation returning a value that can throw a {@link SQLException}.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface SQLTask<T> {
+        T call() throws SQLException;
+    }
+
+    /**
+     * An operation without result that can throw a {@link SQLException}.
+     */
+    @FunctionalInterface
+    public interface SQLRunnable {
+        void run() throws SQLException;
+    }
+}
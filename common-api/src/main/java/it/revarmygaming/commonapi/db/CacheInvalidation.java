@@ -0,0 +1,82 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The data of the message published on a {@link it.revarmygaming.commonapi.redis.messanger.Messenger}
+ * after a write, so the other servers remove the entries of their read cache touched by it.
+ */
+public class CacheInvalidation implements Serializable {
+
+    public static final String ACTION = "ragcore-sql-invalidate";
+
+    private final String table;
+    private final String[] editedColumns;
+    private final String[] columns;
+    private final Object[] values;
+
+    /**
+     * Creates the invalidation of the entries that can contain the rows matched by a write.
+     *
+     * @param table         the table written
+     * @param editedColumns the columns edited by the write
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     */
+    public CacheInvalidation(@NotNull String table, @NotNull String[] editedColumns, @NotNull String[] columns, @NotNull Object[] values) {
+        this.table = table;
+        this.editedColumns = editedColumns.clone();
+        this.columns = columns.clone();
+        this.values = values.clone();
+    }
+
+    /**
+     * Creates the invalidation of every entry of a table.
+     *
+     * @param table the table written
+     */
+    public CacheInvalidation(@NotNull String table) {
+        this.table = table;
+        this.editedColumns = null;
+        this.columns = null;
+        this.values = null;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Return true if every entry of the table must be removed.
+     *
+     * @return true if the rows touched by the write are unknown
+     */
+    public boolean isAll() {
+        return columns == null;
+    }
+
+    public String[] getEditedColumns() {
+        return editedColumns == null ? null : editedColumns.clone();
+    }
+
+    public String[] getColumns() {
+        return columns == null ? null : columns.clone();
+    }
+
+    public Object[] getValues() {
+        return values == null ? null : values.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheInvalidation{" +
+                "table='" + table + '\'' +
+                ", editedColumns=" + Arrays.toString(editedColumns) +
+                ", columns=" + Arrays.toString(columns) +
+                ", values=" + Arrays.toString(values) +
+                '}';
+    }
+}
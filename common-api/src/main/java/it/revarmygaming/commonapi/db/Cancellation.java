@@ -0,0 +1,78 @@
+package it.revarmygaming.commonapi.db;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Cancels the statement running for an operation of {@link AsyncSQL} when its future is cancelled.
+ *
+ * <p>The executor thread running the operation exposes its Cancellation through {@link #current()},
+ * every statement prepared by the operation is registered, so the one in flight is cancelled on the
+ * database and the next ones are not executed.</p>
+ */
+class Cancellation {
+
+    private static final ThreadLocal<Cancellation> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean cancelled = false;
+    private volatile Statement statement;
+
+    /**
+     * Return the Cancellation of the operation running on the current thread.
+     *
+     * @return the Cancellation, or null if the thread is not running an asynchronous operation
+     */
+    static Cancellation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Return true if the operation running on the current thread was cancelled.
+     *
+     * @return true if cancelled
+     */
+    static boolean isCurrentCancelled() {
+        Cancellation cancellation = CURRENT.get();
+        return cancellation != null && cancellation.cancelled;
+    }
+
+    /**
+     * Binds this Cancellation to the current thread until {@link #unbind()} is called.
+     */
+    void bind() {
+        CURRENT.set(this);
+    }
+
+    void unbind() {
+        CURRENT.remove();
+        statement = null;
+    }
+
+    /**
+     * Registers the statement about to be executed by the operation.
+     *
+     * @param statement the statement
+     * @throws SQLException if the operation was already cancelled
+     */
+    void register(Statement statement) throws SQLException {
+        this.statement = statement;
+        if (cancelled) throw new SQLException("The operation was cancelled", "57014");
+    }
+
+    /**
+     * Cancels the operation: the statement in flight is cancelled and the next ones are not executed.
+     */
+    void cancel() {
+        cancelled = true;
+        Statement statement = this.statement;
+        if (statement == null) return;
+        try {
+            statement.cancel();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+}
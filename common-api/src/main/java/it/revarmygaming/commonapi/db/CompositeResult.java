@@ -1,8 +1,15 @@
 package it.revarmygaming.commonapi.db;
 
+import org.jetbrains.annotations.NotNull;
+
 import java.io.InputStream;
 import java.sql.*;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class CompositeResult {
 
@@ -10,6 +17,8 @@ public class CompositeResult {
     private PreparedStatement statement;
     private ResultSet result;
     private String query;
+    private QueryMetrics.Execution execution;
+    private long rows = 0;
 
     public CompositeResult(Connection connection, PreparedStatement statement, ResultSet result, String query) {
         this.connection = connection;
@@ -18,11 +27,20 @@ public class CompositeResult {
         this.query = query;
     }
 
+    CompositeResult(Connection connection, PreparedStatement statement, ResultSet result, String query, QueryMetrics.Execution execution) {
+        this(connection, statement, result, query);
+        this.execution = execution;
+    }
+
     /**
      * Closes the ResultSet, the Statement and the Connection.
      */
     public void close() {
         DBUtils.closeQuietly(connection, statement, result);
+        if (execution != null) {
+            execution.end(rows);
+            execution = null;
+        }
     }
 
     /**
@@ -194,6 +212,83 @@ public class CompositeResult {
     }
 
     public boolean next() throws SQLException {
-        return result.next();
+        if (!result.next()) return false;
+        rows++;
+        return true;
+    }
+
+    /**
+     * Return a lazy Stream reading the remaining rows of the ResultSet.
+     * The ResultSet, the Statement and the Connection are closed when the Stream is closed
+     * or when every row has been read. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param mapper converts the current row to an element of the Stream
+     * @param <T>    the type of the elements
+     * @return the Stream of the rows
+     */
+    public <T> Stream<T> stream(@NotNull Mapper<T> mapper) {
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!next()) {
+                        close();
+                        return false;
+                    }
+                    action.accept(mapper.map(CompositeResult.this));
+                    return true;
+                } catch (SQLException e) {
+                    close();
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Return a lazy Stream of the remaining rows of the ResultSet as {@link Row}.
+     *
+     * @return the Stream of the rows
+     * @throws SQLException SQLException
+     */
+    public Stream<Row> stream() throws SQLException {
+        String[] columns = Row.columns(result);
+        return stream(composite -> Row.read(composite.getResult(), columns));
+    }
+
+    /**
+     * Calls the handler for each remaining row of the ResultSet, then closes it.
+     * No object is allocated per row.
+     *
+     * @param handler reads the current row
+     * @throws SQLException SQLException
+     */
+    public void forEach(@NotNull Handler handler) throws SQLException {
+        try {
+            while (next()) {
+                handler.handle(this);
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Converts the current row of a CompositeResult.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface Mapper<T> {
+        T map(CompositeResult result) throws SQLException;
+    }
+
+    /**
+     * Reads the current row of a CompositeResult.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle(CompositeResult result) throws SQLException;
     }
 }
@@ -1,9 +1,7 @@
 package it.revarmygaming.commonapi.db;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
+import java.math.BigDecimal;
+import java.sql.*;
 
 public class DBUtils {
 
@@ -113,4 +111,77 @@ public class DBUtils {
         } catch (SQLException ignored) {
         }
     }
+
+    /**
+     * Rolls back the current transaction of the Connection.
+     *
+     * @param connection Connection to roll back
+     */
+    public static void rollbackQuietly(Connection connection) {
+        try {
+            if (connection != null) {
+                if (!connection.isClosed()) {
+                    connection.rollback();
+                }
+            }
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * Restores the auto-commit mode of the Connection.
+     *
+     * @param connection Connection to restore
+     */
+    public static void autoCommitQuietly(Connection connection) {
+        try {
+            if (connection != null) {
+                if (!connection.isClosed()) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * Binds the given parameters to the statement using the typed setter of each value.
+     *
+     * @param statement  the statement to bind
+     * @param parameters the parameters in binding order
+     * @throws SQLException SQLException
+     */
+    public static void setParameters(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            setParameter(statement, i + 1, parameters[i]);
+        }
+    }
+
+    /**
+     * Binds a parameter to the statement using the typed setter of the value.
+     *
+     * @param statement the statement to bind
+     * @param index     the index of the parameter (starts from 1)
+     * @param value     the value to bind
+     * @throws SQLException SQLException
+     */
+    public static void setParameter(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) statement.setNull(index, Types.NULL);
+        else if (value instanceof String) statement.setString(index, (String) value);
+        else if (value instanceof Integer) statement.setInt(index, (Integer) value);
+        else if (value instanceof Long) statement.setLong(index, (Long) value);
+        else if (value instanceof Boolean) statement.setBoolean(index, (Boolean) value);
+        else if (value instanceof Double) statement.setDouble(index, (Double) value);
+        else if (value instanceof Float) statement.setFloat(index, (Float) value);
+        else if (value instanceof Short) statement.setShort(index, (Short) value);
+        else if (value instanceof Byte) statement.setByte(index, (Byte) value);
+        else if (value instanceof Timestamp) statement.setTimestamp(index, (Timestamp) value);
+        else if (value instanceof Date) statement.setDate(index, (Date) value);
+        else if (value instanceof Time) statement.setTime(index, (Time) value);
+        else if (value instanceof java.util.Date) statement.setTimestamp(index, new Timestamp(((java.util.Date) value).getTime()));
+        else if (value instanceof BigDecimal) statement.setBigDecimal(index, (BigDecimal) value);
+        else if (value instanceof byte[]) statement.setBytes(index, (byte[]) value);
+        else if (value instanceof Enum) statement.setString(index, ((Enum<?>) value).name());
+        else statement.setString(index, value.toString());
+    }
 }
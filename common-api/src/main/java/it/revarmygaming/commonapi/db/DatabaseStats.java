@@ -0,0 +1,76 @@
+package it.revarmygaming.commonapi.db;
+
+import it.revarmygaming.commonapi.db.connectors.PoolStats;
+
+import java.util.List;
+
+/**
+ * A snapshot of the connection pool, the statements and the read cache of a SQL instance.
+ */
+public class DatabaseStats {
+
+    private final String table;
+    private final PoolStats pool;
+    private final List<QueryStats> queries;
+    private final CacheStats cache;
+    private final int pendingWrites;
+
+    public DatabaseStats(String table, PoolStats pool, List<QueryStats> queries, CacheStats cache, int pendingWrites) {
+        this.table = table;
+        this.pool = pool;
+        this.queries = queries;
+        this.cache = cache;
+        this.pendingWrites = pendingWrites;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Return the state of the connection pool.
+     *
+     * @return the PoolStats, or null if the connector doesn't pool its connections
+     */
+    public PoolStats getPool() {
+        return pool;
+    }
+
+    /**
+     * Return the latency of every statement shape, the slowest in total first.
+     *
+     * @return the list of QueryStats
+     */
+    public List<QueryStats> getQueries() {
+        return queries;
+    }
+
+    /**
+     * Return the counters of the read cache.
+     *
+     * @return the CacheStats, or null if the cache is disabled
+     */
+    public CacheStats getCache() {
+        return cache;
+    }
+
+    /**
+     * Return the number of writes waiting to be flushed by the write-behind queue.
+     *
+     * @return the number of pending writes
+     */
+    public int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    @Override
+    public String toString() {
+        return "DatabaseStats{" +
+                "table='" + table + '\'' +
+                ", pool=" + pool +
+                ", queries=" + queries +
+                ", cache=" + cache +
+                ", pendingWrites=" + pendingWrites +
+                '}';
+    }
+}
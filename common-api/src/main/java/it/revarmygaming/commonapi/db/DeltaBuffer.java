@@ -0,0 +1,241 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Merges the increments of a {@link SQLImplementation} in memory and writes them as JDBC batches.
+ *
+ * <p>Increments of the same columns with the same where values are summed, so a counter bumped a thousand
+ * times between two flushes costs a single UPDATE. A batch that fails is merged back and written again
+ * by the next flush, because the batch is rolled back as a whole. Like {@link WriteBehind}, an increment
+ * rejected by the database too many times is written on its own, and dropped and logged if it still fails.</p>
+ */
+class DeltaBuffer {
+
+    private static final Logger LOGGER = Logger.getLogger("RAGCore");
+
+    private final SQLImplementation sql;
+    private final ScheduledExecutorService scheduler;
+    private final Object flushLock = new Object();
+
+    private LinkedHashMap<String, LinkedHashMap<List<Object>, Delta>> pending = new LinkedHashMap<>();
+    private int size = 0;
+
+    DeltaBuffer(SQLImplementation sql, long interval, @NotNull TimeUnit unit) {
+        if (interval < 1) throw new IllegalArgumentException("Flush interval must be at least 1");
+
+        this.sql = sql;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ragcore-sql-" + sql.getTable() + "-deltas");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, unit);
+    }
+
+    /**
+     * Queues an increment, adding it to the pending one with the same statement and where values.
+     *
+     * @param query        the parameterized increment query
+     * @param deltas       the amounts to add to the edited columns
+     * @param where        the parameters of the where clause
+     * @param invalidation invalidates the cached reads touched by the increment once it is written
+     */
+    synchronized void add(@NotNull String query, Number[] deltas, Object[] where, @NotNull Runnable invalidation) {
+        LinkedHashMap<List<Object>, Delta> batch = pending.computeIfAbsent(query, k -> new LinkedHashMap<>());
+        Delta delta = batch.get(Arrays.asList(where));
+        if (delta == null) {
+            batch.put(Arrays.asList(where), new Delta(deltas.clone(), where, invalidation));
+            size++;
+        } else {
+            for (int i = 0; i < deltas.length; i++) {
+                delta.sums[i] = add(delta.sums[i], deltas[i]);
+            }
+        }
+    }
+
+    /**
+     * Return the number of keys with increments waiting to be written.
+     *
+     * @return the number of pending increments
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Writes every pending increment to the database.
+     *
+     * @throws SQLException the first error thrown while writing, the other batches are still written
+     */
+    void flush() throws SQLException {
+        synchronized (flushLock) {
+            LinkedHashMap<String, LinkedHashMap<List<Object>, Delta>> batches;
+            synchronized (this) {
+                batches = pending;
+                pending = new LinkedHashMap<>();
+                size = 0;
+            }
+
+            SQLException exception = null;
+            for (Map.Entry<String, LinkedHashMap<List<Object>, Delta>> batch : batches.entrySet()) {
+                List<Delta> deltas = new ArrayList<>(batch.getValue().size());
+                List<Object[]> parameters = new ArrayList<>(batch.getValue().size());
+                List<Delta> exhausted = new ArrayList<>();
+                for (Delta delta : batch.getValue().values()) {
+                    if (delta.isZero()) continue;
+                    if (delta.attempts >= WriteBehind.MAXIMUM_ATTEMPTS) {
+                        exhausted.add(delta);
+                    } else {
+                        deltas.add(delta);
+                        parameters.add(StatementCache.parameters(delta.sums, delta.where));
+                    }
+                }
+
+                try {
+                    sql.batch(batch.getKey(), parameters);
+                } catch (SQLException e) {
+                    if (exception == null) exception = e;
+                    else exception.addSuppressed(e);
+                    boolean counted = !WriteBehind.isTransient(e);
+                    for (Delta delta : deltas) {
+                        requeue(batch.getKey(), delta, counted);
+                    }
+                    deltas.clear();
+                }
+
+                for (Delta delta : exhausted) {
+                    try {
+                        sql.batch(batch.getKey(), Collections.singletonList(StatementCache.parameters(delta.sums, delta.where)));
+                        deltas.add(delta);
+                    } catch (SQLException e) {
+                        if (WriteBehind.isTransient(e)) {
+                            if (exception == null) exception = e;
+                            else exception.addSuppressed(e);
+                            requeue(batch.getKey(), delta, false);
+                        } else {
+                            LOGGER.log(Level.SEVERE, "Dropped an increment of `" + sql.getTable() + "` rejected "
+                                    + WriteBehind.MAXIMUM_ATTEMPTS + " times: " + batch.getKey() + " "
+                                    + Arrays.toString(StatementCache.parameters(delta.sums, delta.where)), e);
+                        }
+                    }
+                }
+
+                for (Delta delta : deltas) {
+                    delta.invalidation.run();
+                }
+            }
+
+            if (exception != null) throw exception;
+        }
+    }
+
+    /**
+     * Writes every pending increment and stops the flush timer.
+     *
+     * @throws SQLException the first error thrown while writing
+     */
+    void shutdown() throws SQLException {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * Merges an increment that failed back into the pending ones.
+     */
+    private synchronized void requeue(String query, Delta delta, boolean counted) {
+        int attempts = counted ? delta.attempts + 1 : delta.attempts;
+        LinkedHashMap<List<Object>, Delta> batch = pending.computeIfAbsent(query, k -> new LinkedHashMap<>());
+        Delta merged = batch.get(Arrays.asList(delta.where));
+        if (merged == null) {
+            delta.attempts = attempts;
+            batch.put(Arrays.asList(delta.where), delta);
+            size++;
+        } else {
+            for (int i = 0; i < delta.sums.length; i++) {
+                merged.sums[i] = add(merged.sums[i], delta.sums[i]);
+            }
+            merged.attempts = Math.max(merged.attempts, attempts);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Could not write the increments of `" + sql.getTable()
+                    + "`, they are written again by the next flush: " + e);
+        }
+    }
+
+    /**
+     * Return the sum of two numbers, keeping it integral when both are integral and it fits in a long.
+     *
+     * @param a the first number
+     * @param b the second number
+     * @return the sum
+     */
+    static Number add(Number a, Number b) {
+        if (isIntegral(a) && isIntegral(b)) {
+            long x = a.longValue(), y = b.longValue(), sum = x + y;
+            if (((x ^ sum) & (y ^ sum)) >= 0) return sum;
+        }
+        return toBigDecimal(a).add(toBigDecimal(b));
+    }
+
+    /**
+     * Return the opposite of a number. An integral number becomes a long, or a BigDecimal if its opposite
+     * doesn't fit in a long.
+     *
+     * @param number the number
+     * @return the opposite
+     */
+    static Number negate(Number number) {
+        if (isIntegral(number) && number.longValue() != Long.MIN_VALUE) return -number.longValue();
+        if (number instanceof Double) return -number.doubleValue();
+        if (number instanceof Float) return -number.floatValue();
+        if (number instanceof BigInteger) return ((BigInteger) number).negate();
+        return toBigDecimal(number).negate();
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) return (BigDecimal) number;
+        if (number instanceof BigInteger) return new BigDecimal((BigInteger) number);
+        if (isIntegral(number)) return BigDecimal.valueOf(number.longValue());
+        return new BigDecimal(number.toString());
+    }
+
+    private static class Delta {
+        private final Number[] sums;
+        private final Object[] where;
+        private final Runnable invalidation;
+        private int attempts = 0;
+
+        private Delta(Number[] sums, Object[] where, Runnable invalidation) {
+            this.sums = sums;
+            this.where = where;
+            this.invalidation = invalidation;
+        }
+
+        private boolean isZero() {
+            for (Number sum : sums) {
+                if (toBigDecimal(sum).signum() != 0) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * The SQL syntax of a database: how identifiers are quoted and how the statements that differ
+ * between databases are written.
+ *
+ * <p>The default methods write the syntax shared by MySQL, SQLite and H2.</p>
+ */
+public interface Dialect {
+
+    Dialect MYSQL = new MySqlDialect();
+    Dialect SQLITE = new SQLiteDialect();
+    Dialect H2 = new H2Dialect();
+
+    /**
+     * Return the name of the database.
+     *
+     * @return the name of the dialect
+     */
+    String getName();
+
+    /**
+     * Return the given table or column name quoted, so reserved words and special characters can be used.
+     *
+     * @param identifier the name of the table or of the column
+     * @return the quoted identifier
+     */
+    String quote(@NotNull String identifier);
+
+    /**
+     * Return the clause limiting the number of rows returned by a SELECT, appended after the ORDER BY.
+     *
+     * @param count  the maximum number of rows, a number or a ?
+     * @param offset the number of rows skipped, a number or a ?, null to skip none
+     * @return the clause, starting with a space
+     */
+    default String limit(@NotNull String count, String offset) {
+        return " LIMIT " + count + (offset == null ? "" : " OFFSET " + offset);
+    }
+
+    /**
+     * Return the INSERT statement adding the given number of lines with a single VALUES clause.
+     *
+     * @param table   the table
+     * @param columns the list of columns to edit
+     * @param rows    the number of lines added by the statement
+     * @return the parameterized query
+     */
+    default String insert(@NotNull String table, @NotNull String[] columns, int rows) {
+        StringBuilder query = new StringBuilder();
+        query.append("INSERT INTO ")
+                .append(quote(table))
+                .append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            query.append(quote(columns[i]));
+            if (i != columns.length - 1) query.append(", ");
+        }
+        query.append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            query.append("(");
+            for (int i = 0; i < columns.length; i++) {
+                query.append("?");
+                if (i != columns.length - 1) query.append(", ");
+            }
+            query.append(")");
+            if (row != rows - 1) query.append(", ");
+        }
+        return query.append(";").toString();
+    }
+
+    /**
+     * Return the upsert statement: the line is added, or its columns are updated
+     * if a line with the same PRIMARY or UNIQUE key exists.
+     *
+     * @param table      the table
+     * @param keyColumns the columns of the key
+     * @param columns    the list of columns to edit
+     * @return the parameterized query, binding the key values followed by the values of the columns
+     */
+    String upsert(@NotNull String table, @NotNull String[] keyColumns, @NotNull String[] columns);
+
+    /**
+     * Return the column type storing a boolean.
+     *
+     * @return the boolean type
+     */
+    default String booleanType() {
+        return "BOOLEAN";
+    }
+
+    /**
+     * Return the literal of a boolean value, to be used in the DDL and in raw queries.
+     *
+     * @param value the value
+     * @return the literal
+     */
+    default String literal(boolean value) {
+        return value ? "TRUE" : "FALSE";
+    }
+
+    /**
+     * Return the definition of an auto increment integer primary key column.
+     *
+     * @param column the name of the column
+     * @return the column definition, to be passed to createTable
+     */
+    String autoIncrement(@NotNull String column);
+
+    /**
+     * Return the statement creating a table if it doesn't exist.
+     *
+     * @param table   the table
+     * @param columns the list of columns with their type
+     * @param charset the default character set, ignored by the databases without one
+     * @return the query
+     */
+    default String createTable(@NotNull String table, @NotNull String[] columns, String charset) {
+        return "CREATE TABLE IF NOT EXISTS " + quote(table) + " (" + String.join(", ", columns) + ");";
+    }
+
+    /**
+     * Return the statement creating an index if it doesn't exist.
+     *
+     * @param table   the table
+     * @param index   the name of the index
+     * @param unique  true to create a UNIQUE index
+     * @param columns the indexed columns
+     * @return the query
+     */
+    default String createIndex(@NotNull String table, @NotNull String index, boolean unique, @NotNull String[] columns) {
+        StringBuilder query = new StringBuilder();
+        query.append(unique ? "CREATE UNIQUE INDEX IF NOT EXISTS " : "CREATE INDEX IF NOT EXISTS ")
+                .append(quote(index))
+                .append(" ON ")
+                .append(quote(table))
+                .append(" (");
+        for (int i = 0; i < columns.length; i++) {
+            query.append(quote(columns[i]));
+            if (i != columns.length - 1) query.append(", ");
+        }
+        return query.append(");").toString();
+    }
+
+    /**
+     * Return true if the exception was thrown because the index created already exists,
+     * for the databases that can't create an index only if it doesn't exist.
+     *
+     * @param exception the exception thrown by createIndex
+     * @return true if the index already exists
+     */
+    default boolean isExistingIndex(@NotNull SQLException exception) {
+        return false;
+    }
+
+    /**
+     * Return the maximum number of parameters bound to a single statement.
+     *
+     * @return the maximum number of parameters
+     */
+    default int getMaxParameters() {
+        return 999;
+    }
+}
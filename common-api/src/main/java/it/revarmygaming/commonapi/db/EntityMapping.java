@@ -0,0 +1,228 @@
+package it.revarmygaming.commonapi.db;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The mapping between a class and the columns of a table, built once per class from its {@link Exposed} fields.
+ *
+ * <p>Fields are accessed through MethodHandles resolved when the class is first scanned,
+ * so loading and saving an entity does not use reflection.</p>
+ */
+class EntityMapping<T> {
+
+    /**
+     * The mapping of every class, held by the class itself so the class loader of a reloaded plugin can be collected.
+     */
+    private static final ClassValue<EntityMapping<?>> MAPPINGS = new ClassValue<EntityMapping<?>>() {
+        @Override
+        protected EntityMapping<?> computeValue(Class<?> type) {
+            return new EntityMapping<>(type);
+        }
+    };
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final String[] columns;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+    private final FieldReader[] readers;
+    private final boolean[] primitives;
+    private final int key;
+    private final String[] writableColumns;
+    private final int[] writable;
+
+    private EntityMapping(Class<T> type) {
+        this.type = type;
+
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                Exposed exposed = field.getAnnotation(Exposed.class);
+                if (exposed == null || !exposed.exposed() || Modifier.isStatic(field.getModifiers())) continue;
+                fields.add(field);
+            }
+        }
+        if (fields.isEmpty()) throw new IllegalArgumentException(type.getName() + " has no @Exposed fields");
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        columns = new String[fields.size()];
+        getters = new MethodHandle[fields.size()];
+        setters = new MethodHandle[fields.size()];
+        readers = new FieldReader[fields.size()];
+        primitives = new boolean[fields.size()];
+
+        int key = -1;
+        List<Integer> writable = new ArrayList<>();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                Field field = fields.get(i);
+                Exposed exposed = field.getAnnotation(Exposed.class);
+                field.setAccessible(true);
+
+                columns[i] = exposed.name().isEmpty() ? field.getName() : exposed.name();
+                getters[i] = lookup.unreflectGetter(field).asType(GETTER);
+                setters[i] = lookup.unreflectSetter(field).asType(SETTER);
+                readers[i] = reader(field.getType());
+                primitives[i] = field.getType().isPrimitive();
+
+                if (exposed.key()) {
+                    if (key != -1) throw new IllegalArgumentException(type.getName() + " has more than one key field");
+                    key = i;
+                } else if (!exposed.readOnly()) {
+                    writable.add(i);
+                }
+            }
+
+            Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(type.getName() + " has no constructor without parameters", e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access the fields of " + type.getName(), e);
+        }
+        if (key == -1) throw new IllegalArgumentException(type.getName() + " has no @Exposed(key = true) field");
+
+        this.key = key;
+        this.writable = writable.stream().mapToInt(Integer::intValue).toArray();
+        this.writableColumns = names(this.writable);
+    }
+
+    /**
+     * Return the mapping of the given class, scanning it on the first call.
+     *
+     * @param type the mapped class
+     * @param <T>  the mapped type
+     * @return the EntityMapping of the class
+     */
+    @SuppressWarnings("unchecked")
+    static <T> EntityMapping<T> of(Class<T> type) {
+        return (EntityMapping<T>) MAPPINGS.get(type);
+    }
+
+    Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Return every mapped column, used as projection when loading.
+     *
+     * @return the mapped columns
+     */
+    String[] getColumns() {
+        return columns;
+    }
+
+    String getKeyColumn() {
+        return columns[key];
+    }
+
+    /**
+     * Return the columns written by an update, the key and the read-only columns are excluded.
+     *
+     * @return the updated columns
+     */
+    String[] getWritableColumns() {
+        return writableColumns;
+    }
+
+    Object getKey(Object entity) throws SQLException {
+        return get(entity, key);
+    }
+
+    /**
+     * Return the parameters of an upsert: the key followed by the values of {@link #getWritableColumns()}.
+     *
+     * @param entity the entity to save
+     * @return the parameters in binding order
+     * @throws SQLException SQLException
+     */
+    Object[] getUpsertValues(Object entity) throws SQLException {
+        Object[] values = new Object[writable.length + 1];
+        values[0] = get(entity, key);
+        for (int i = 0; i < writable.length; i++) {
+            values[i + 1] = get(entity, writable[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Creates an entity from a row read with {@link #getColumns()} as projection.
+     *
+     * @param row the row to read
+     * @return the entity
+     * @throws SQLException SQLException
+     */
+    T read(Row row) throws SQLException {
+        try {
+            Object entity = constructor.invokeExact();
+            for (int i = 0; i < columns.length; i++) {
+                if (primitives[i] && row.isNull(i)) continue;
+                setters[i].invokeExact(entity, readers[i].read(row, i));
+            }
+            return type.cast(entity);
+        } catch (SQLException | RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SQLException(t);
+        }
+    }
+
+    private Object get(Object entity, int index) throws SQLException {
+        try {
+            return (Object) getters[index].invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new SQLException(t);
+        }
+    }
+
+    private String[] names(int[] indexes) {
+        String[] names = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            names[i] = columns[indexes[i]];
+        }
+        return names;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static FieldReader reader(Class<?> type) {
+        if (type == int.class || type == Integer.class) return Row::getInteger;
+        if (type == long.class || type == Long.class) return Row::getLong;
+        if (type == String.class) return Row::getString;
+        if (type == boolean.class || type == Boolean.class) return Row::getBoolean;
+        if (type == double.class || type == Double.class) return Row::getDouble;
+        if (type == float.class || type == Float.class) return Row::getFloat;
+        if (type == short.class || type == Short.class) return Row::getShort;
+        if (type == byte.class || type == Byte.class) return Row::getByte;
+        if (type == Timestamp.class) return Row::getTimestamp;
+        if (type == Date.class) return Row::getDate;
+        if (type == Time.class) return Row::getTime;
+        if (type == UUID.class) return Row::getUUID;
+        if (type.isEnum()) return (row, index) -> {
+            String name = row.getString(index);
+            return name == null ? null : Enum.valueOf((Class<Enum>) type, name);
+        };
+        return (row, index) -> row.getObject(index, type);
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        Object read(Row row, int index) throws SQLException;
+    }
+}
@@ -13,4 +13,5 @@ public @interface Exposed {
     String name() default "";
     boolean exposed() default true;
     boolean readOnly() default false;
+    boolean key() default false;
 }
@@ -0,0 +1,48 @@
+package it.revarmygaming.commonapi.db;
+
+import it.revarmygaming.commonapi.db.connectors.H2Connector;
+import it.revarmygaming.commonapi.db.connectors.PoolSettings;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * A table of an H2 database, used to run the code written for MySQL in-process, for tests and benchmarks.
+ * The H2 driver must be on the classpath.
+ *
+ * <p>The identifiers are case insensitive as in MySQL, so the tables created with backticks by
+ * {@link #createTable(String[])} are found whatever the case of their names.</p>
+ */
+public class H2 extends SQLImplementation {
+
+    private String url;
+
+    public H2(@NotNull String url, @NotNull String table, @NotNull PoolSettings poolSettings) {
+        super(new H2Connector(url, poolSettings), table, Dialect.H2, poolSettings.getMaximumPoolSize(), poolSettings.getAsyncQueueSize());
+        this.url = url;
+    }
+
+    /**
+     * Creates a table of an in-memory database, shared by every H2 instance with the same database name.
+     *
+     * @param database the name of the database
+     * @param table    the table
+     */
+    public H2(@NotNull String database, @NotNull String table) {
+        this(H2Connector.memory(database), table, new PoolSettings());
+    }
+
+    /**
+     * Creates a table of a database stored in a file.
+     *
+     * @param database the file, without the .mv.db extension
+     * @param table    the table
+     */
+    public H2(@NotNull File database, @NotNull String table) {
+        this(H2Connector.file(database.getAbsolutePath()), table, new PoolSettings());
+    }
+
+    public String getUrl() {
+        return url;
+    }
+}
@@ -0,0 +1,57 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The H2 syntax, using only standard quoting and paging so it works in every H2 compatibility mode.
+ *
+ * <p>Unlike the backticks of MySQL, double quoted identifiers are case sensitive in H2: the statements find the
+ * tables created with backticks or without quotes only with the options added by
+ * {@link it.revarmygaming.commonapi.db.connectors.H2Connector}, DATABASE_TO_LOWER and CASE_INSENSITIVE_IDENTIFIERS.</p>
+ */
+class H2Dialect implements Dialect {
+
+    @Override
+    public String getName() {
+        return "H2";
+    }
+
+    @Override
+    public String quote(@NotNull String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+
+    @Override
+    public String limit(@NotNull String count, String offset) {
+        return (offset == null ? "" : " OFFSET " + offset + " ROWS") + " FETCH FIRST " + count + " ROWS ONLY";
+    }
+
+    @Override
+    public String upsert(@NotNull String table, @NotNull String[] keyColumns, @NotNull String[] columns) {
+        String[] all = StatementCache.concat(keyColumns, columns);
+        StringBuilder query = new StringBuilder();
+        query.append("MERGE INTO ")
+                .append(quote(table))
+                .append(" (");
+        for (int i = 0; i < all.length; i++) {
+            query.append(quote(all[i]));
+            if (i != all.length - 1) query.append(", ");
+        }
+        query.append(") KEY (");
+        for (int i = 0; i < keyColumns.length; i++) {
+            query.append(quote(keyColumns[i]));
+            if (i != keyColumns.length - 1) query.append(", ");
+        }
+        query.append(") VALUES (");
+        for (int i = 0; i < all.length; i++) {
+            query.append("?");
+            if (i != all.length - 1) query.append(", ");
+        }
+        return query.append(");").toString();
+    }
+
+    @Override
+    public String autoIncrement(@NotNull String column) {
+        return quote(column) + " INT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY";
+    }
+}
@@ -0,0 +1,88 @@
+package it.revarmygaming.commonapi.db;
+
+import it.revarmygaming.commonapi.redis.RedisMessage;
+import it.revarmygaming.commonapi.redis.messanger.Messenger;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Publishes the {@link CacheInvalidation}s of a table on a {@link Messenger} from a background thread,
+ * since the messenger must not be called from the thread of the write.
+ *
+ * <p>When the queue is full the invalidations are replaced by the invalidation of the whole table,
+ * published before the next one, so the other servers are never left with stale entries.</p>
+ */
+class InvalidationPublisher {
+
+    private static final Logger LOGGER = Logger.getLogger("RAGCore");
+    private static final int QUEUE_SIZE = 10_000;
+
+    private final Messenger messenger;
+    private final String table;
+    private final AtomicBoolean overflowed = new AtomicBoolean(false);
+    private volatile ThreadPoolExecutor publisher;
+
+    InvalidationPublisher(Messenger messenger, String table) {
+        this.messenger = messenger;
+        this.table = table;
+    }
+
+    void publish(CacheInvalidation invalidation) {
+        try {
+            publisher().execute(() -> {
+                if (overflowed.getAndSet(false)) send(new CacheInvalidation(table));
+                send(invalidation);
+            });
+        } catch (RejectedExecutionException e) {
+            overflowed.set(true);
+        }
+    }
+
+    /**
+     * Stops the publisher thread after publishing the queued invalidations.
+     */
+    void shutdown() {
+        ThreadPoolExecutor publisher = this.publisher;
+        if (publisher == null) return;
+        publisher.shutdown();
+        try {
+            publisher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.publisher = null;
+    }
+
+    private void send(CacheInvalidation invalidation) {
+        try {
+            messenger.sendOutgoingMessage(new RedisMessage(CacheInvalidation.ACTION, invalidation));
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Could not publish the cache invalidation of `" + table + "`: " + e);
+        }
+    }
+
+    private ThreadPoolExecutor publisher() {
+        ThreadPoolExecutor publisher = this.publisher;
+        if (publisher == null) {
+            synchronized (this) {
+                publisher = this.publisher;
+                if (publisher == null) {
+                    publisher = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                            new LinkedBlockingQueue<>(QUEUE_SIZE), runnable -> {
+                        Thread thread = new Thread(runnable, "ragcore-sql-" + table + "-messenger");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.publisher = publisher;
+                }
+            }
+        }
+        return publisher;
+    }
+}
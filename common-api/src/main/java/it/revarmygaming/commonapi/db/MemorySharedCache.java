@@ -0,0 +1,84 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A {@link SharedCache} kept in the memory of the process.
+ *
+ * <p>It behaves like {@link RedisSharedCache}, so the instances of a single process sharing it behave like
+ * servers sharing a Redis server. It is meant for tests and for running without Redis.</p>
+ */
+public class MemorySharedCache implements SharedCache {
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Long> generations = new HashMap<>();
+
+    @Override
+    public synchronized Lookup lookup(@NotNull String table, @NotNull String key) {
+        Entry entry = entries.get(table + ":" + key);
+        if (entry != null && entry.expiresAt - System.currentTimeMillis() <= 0) {
+            entries.remove(table + ":" + key);
+            entry = null;
+        }
+        return new Lookup(entry == null ? null : entry.value.clone(), generation(table));
+    }
+
+    @Override
+    public synchronized void put(@NotNull String table, @NotNull String key, @NotNull byte[] value, @NotNull String[] columns,
+                                 @NotNull Object[] values, long generation, long ttl) {
+        if (generation(table) != generation) return;
+        entries.put(table + ":" + key, new Entry(table, value.clone(), columns.clone(), values.clone(), System.currentTimeMillis() + ttl));
+    }
+
+    @Override
+    public synchronized void invalidate(@NotNull String table, @NotNull String[] editedColumns, @NotNull String[] columns,
+                                        @NotNull Object[] values) {
+        generations.merge(table, 1L, Long::sum);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.table.equals(table) && QueryCache.overlaps(entry.columns, entry.values, editedColumns, columns, values)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll(@NotNull String table) {
+        generations.merge(table, 1L, Long::sum);
+        entries.values().removeIf(entry -> entry.table.equals(table));
+    }
+
+    private long generation(String table) {
+        return generations.getOrDefault(table, 0L);
+    }
+
+    /**
+     * Return the number of entries, expired ones included.
+     *
+     * @return the number of entries
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static class Entry {
+        private final String table;
+        private final byte[] value;
+        private final String[] columns;
+        private final Object[] values;
+        private final long expiresAt;
+
+        private Entry(String table, byte[] value, String[] columns, Object[] values, long expiresAt) {
+            this.table = table;
+            this.value = value;
+            this.columns = columns;
+            this.values = values;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
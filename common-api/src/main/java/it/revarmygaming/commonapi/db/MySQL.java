@@ -1,10 +1,13 @@
 package it.revarmygaming.commonapi.db;
 
-import it.revarmygaming.commonapi.db.connectors.HikariConnector;
-import it.revarmygaming.commonapi.db.connectors.MySqlConnector;
-import it.revarmygaming.commonapi.db.connectors.PoolSettings;
+import it.revarmygaming.commonapi.db.connectors.*;
 import org.jetbrains.annotations.NotNull;
 
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 public class MySQL extends SQLImplementation {
 
     private String host;
@@ -12,16 +15,40 @@ public class MySQL extends SQLImplementation {
     private String database;
     private String user;
 
-    public MySQL(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password, @NotNull String table, boolean pool, @NotNull PoolSettings poolSettings) {
-        super(pool ?
-                        new HikariConnector(host, port, database, user, password, poolSettings) :
-                        new MySqlConnector(host, port, database, user, password),
-                table);
+    private List<InetSocketAddress> replicas;
+
+    /**
+     * Creates a MySQL instance writing to the given host and reading from its replicas.
+     * The replicas share the database, the credentials and the pool settings of the primary,
+     * every replica has its own pool.
+     *
+     * @param host          the host of the primary
+     * @param port          the port of the primary
+     * @param database      the database
+     * @param user          the user
+     * @param password      the password
+     * @param table         the table
+     * @param pool          true to use HikariCP
+     * @param poolSettings  the settings of the pools
+     * @param replicas      the addresses of the replicas, empty to read from the primary
+     * @param replicaPolicy how the replica of a read is chosen
+     */
+    public MySQL(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password, @NotNull String table, boolean pool, @NotNull PoolSettings poolSettings,
+                 @NotNull List<InetSocketAddress> replicas, @NotNull ReplicaPolicy replicaPolicy) {
+        super(connector(host, port, database, user, password, pool, poolSettings, replicas, replicaPolicy),
+                table, Dialect.MYSQL, poolSettings.getMaximumPoolSize() * (1 + replicas.size()), poolSettings.getAsyncQueueSize());
 
         this.host = host;
         this.port = port;
         this.database = database;
         this.user = user;
+        this.replicas = Collections.unmodifiableList(new ArrayList<>(replicas));
+
+        setFetchSize(Integer.MIN_VALUE);
+    }
+
+    public MySQL(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password, @NotNull String table, boolean pool, @NotNull PoolSettings poolSettings) {
+        this(host, port, database, user, password, table, pool, poolSettings, Collections.emptyList(), ReplicaPolicy.ROUND_ROBIN);
     }
 
     public MySQL(@NotNull String host, int port, @NotNull String database, @NotNull String user, @NotNull String password, @NotNull String table, boolean usePool) {
@@ -48,6 +75,31 @@ public class MySQL extends SQLImplementation {
         return user;
     }
 
+    public List<InetSocketAddress> getReplicas() {
+        return replicas;
+    }
+
+    private static Connector connector(String host, int port, String database, String user, String password, boolean pool, PoolSettings poolSettings,
+                                       List<InetSocketAddress> replicas, ReplicaPolicy replicaPolicy) {
+        Connector primary = connector(host, port, database, user, password, pool, poolSettings);
+        if (replicas.isEmpty()) return primary;
+
+        List<Connector> connectors = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            PoolSettings settings = new PoolSettings(poolSettings);
+            settings.setPoolName(poolSettings.getPoolName() + "-replica-" + (i + 1));
+            InetSocketAddress replica = replicas.get(i);
+            connectors.add(connector(replica.getHostString(), replica.getPort(), database, user, password, pool, settings));
+        }
+        return new ReplicatedConnector(primary, connectors, replicaPolicy);
+    }
+
+    private static Connector connector(String host, int port, String database, String user, String password, boolean pool, PoolSettings poolSettings) {
+        return pool ?
+                new HikariConnector(host, port, database, user, password, poolSettings) :
+                new MySqlConnector(host, port, database, user, password, poolSettings);
+    }
+
     public static class Builder {
         private String host;
         private int port = -1;
@@ -57,6 +109,8 @@ public class MySQL extends SQLImplementation {
         private String table;
         private boolean pool = true;
         private PoolSettings poolSettings;
+        private List<InetSocketAddress> replicas = new ArrayList<>();
+        private ReplicaPolicy replicaPolicy = ReplicaPolicy.ROUND_ROBIN;
 
         public String getHost() {
             return host;
@@ -139,6 +193,24 @@ public class MySQL extends SQLImplementation {
             return this;
         }
 
+        public List<InetSocketAddress> getReplicas() {
+            return replicas;
+        }
+
+        public Builder addReplica(String host, int port) {
+            this.replicas.add(InetSocketAddress.createUnresolved(host, port));
+            return this;
+        }
+
+        public ReplicaPolicy getReplicaPolicy() {
+            return replicaPolicy;
+        }
+
+        public Builder setReplicaPolicy(ReplicaPolicy replicaPolicy) {
+            this.replicaPolicy = replicaPolicy;
+            return this;
+        }
+
         public MySQL build() {
             if (host == null || host.trim().isEmpty() ||
                     port == -1 ||
@@ -147,7 +219,8 @@ public class MySQL extends SQLImplementation {
                     password == null || password.trim().isEmpty() ||
                     table == null || table.isEmpty()) throw new IllegalArgumentException("Some required parameters are missing.");
 
-            return new MySQL(host, port, database, user, password, table, pool, poolSettings);
+            return new MySQL(host, port, database, user, password, table, pool, poolSettings == null ? new PoolSettings() : poolSettings,
+                    replicas, replicaPolicy == null ? ReplicaPolicy.ROUND_ROBIN : replicaPolicy);
         }
     }
 }
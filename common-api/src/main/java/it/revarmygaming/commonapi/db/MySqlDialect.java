@@ -0,0 +1,75 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+
+/**
+ * The MySQL and MariaDB syntax.
+ */
+class MySqlDialect implements Dialect {
+
+    private static final int DUPLICATE_KEY_NAME = 1061;
+
+    @Override
+    public String getName() {
+        return "MySQL";
+    }
+
+    @Override
+    public String quote(@NotNull String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    @Override
+    public String upsert(@NotNull String table, @NotNull String[] keyColumns, @NotNull String[] columns) {
+        String insert = insert(table, StatementCache.concat(keyColumns, columns), 1);
+        StringBuilder query = new StringBuilder(insert.substring(0, insert.length() - 1));
+        query.append(" ON DUPLICATE KEY UPDATE ");
+        if (columns.length == 0) {
+            query.append(quote(keyColumns[0]))
+                    .append(" = ")
+                    .append(quote(keyColumns[0]));
+        }
+        for (int i = 0; i < columns.length; i++) {
+            query.append(quote(columns[i]))
+                    .append(" = VALUES(")
+                    .append(quote(columns[i]))
+                    .append(")");
+            if (i != columns.length - 1) query.append(", ");
+        }
+        return query.append(";").toString();
+    }
+
+    @Override
+    public String booleanType() {
+        return "TINYINT(1)";
+    }
+
+    @Override
+    public String autoIncrement(@NotNull String column) {
+        return quote(column) + " INT NOT NULL AUTO_INCREMENT PRIMARY KEY";
+    }
+
+    @Override
+    public String createTable(@NotNull String table, @NotNull String[] columns, String charset) {
+        String query = Dialect.super.createTable(table, columns, null);
+        if (charset == null || charset.isEmpty()) return query;
+        return query.substring(0, query.length() - 1) + " DEFAULT CHARACTER SET " + charset + ";";
+    }
+
+    @Override
+    public String createIndex(@NotNull String table, @NotNull String index, boolean unique, @NotNull String[] columns) {
+        return Dialect.super.createIndex(table, index, unique, columns).replace(" IF NOT EXISTS", "");
+    }
+
+    @Override
+    public boolean isExistingIndex(@NotNull SQLException exception) {
+        return exception.getErrorCode() == DUPLICATE_KEY_NAME;
+    }
+
+    @Override
+    public int getMaxParameters() {
+        return 65535;
+    }
+}
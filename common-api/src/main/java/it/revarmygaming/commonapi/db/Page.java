@@ -0,0 +1,70 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of rows read with keyset pagination.
+ *
+ * <p>The next page is read by passing {@link #getNextKey()} as the key after which the rows start.
+ * The key is the value of the ordering columns of the last row of the page, so reading a page costs
+ * the same wherever it is in the table.</p>
+ */
+public class Page implements Serializable {
+
+    private final List<Row> rows;
+    private final Object[] nextKey;
+
+    public Page(@NotNull List<Row> rows, Object[] nextKey) {
+        this.rows = Collections.unmodifiableList(rows);
+        this.nextKey = nextKey;
+    }
+
+    /**
+     * Return the rows of the page.
+     *
+     * @return the unmodifiable list of Row
+     */
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the number of rows of the page.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return rows.size();
+    }
+
+    /**
+     * Return true if there are rows after this page.
+     *
+     * @return true if this is not the last page
+     */
+    public boolean hasNext() {
+        return nextKey != null;
+    }
+
+    /**
+     * Return the continuation token of the next page: the values of the ordering columns of the last row.
+     *
+     * @return the key after which the next page starts, or null if this is the last page
+     */
+    public Object[] getNextKey() {
+        return nextKey == null ? null : nextKey.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "Page{" +
+                "rows=" + rows +
+                ", nextKey=" + Arrays.toString(nextKey) +
+                '}';
+    }
+}
@@ -0,0 +1,500 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An in-process cache of the values read by a {@link SQLImplementation}.
+ *
+ * <p>Entries expire after a fixed time and, when the cache is full, an entry not read since the previous
+ * eviction pass is evicted (the CLOCK approximation of LRU). Reads don't take any lock.
+ * Every entry remembers the where clause of its read and is indexed by the shape of the where clause
+ * and by the value of each of its columns, so a write finds the entries that can contain the rows
+ * it touched without scanning the cache.</p>
+ *
+ * <p>The reads that missed the cache are indexed the same way while they run: a write marks the overlapping
+ * ones as stale and only those can't store their value, the reads of other rows are cached as usual.</p>
+ */
+class QueryCache {
+
+    static final Object NULL = new Object();
+
+    private final int maximumSize;
+    private final long ttl;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Guarded by this
+    private final LinkedHashMap<Key, Entry> clock = new LinkedHashMap<>();
+    private final Map<String, Shape> shapes = new HashMap<>();
+    private final Map<Key, Load> loads = new HashMap<>();
+    private final Map<String, Shape> loading = new HashMap<>();
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    QueryCache(int maximumSize, long ttl, @NotNull TimeUnit unit) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be at least 1");
+        if (ttl < 1) throw new IllegalArgumentException("TTL must be at least 1");
+
+        this.maximumSize = maximumSize;
+        this.ttl = unit.toNanos(ttl);
+    }
+
+    /**
+     * Return the cached value, {@link #NULL} for a cached null or null if the value is not cached.
+     *
+     * @param key the key of the read
+     * @return the cached value
+     */
+    Object get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() <= 0) {
+            expire(entry);
+            entry = null;
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        entry.referenced = true;
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Registers a read that missed the cache, before it queries the database. The Load must be passed
+     * to {@link #finish} once the read is over.
+     *
+     * @param key the key of the read
+     * @return the Load to pass to {@link #put}
+     */
+    synchronized Load start(Key key) {
+        Load load = loads.get(key);
+        if (load == null) {
+            load = new Load(key.detach());
+            loads.put(load.key, load);
+            index(loading, load.key);
+        }
+        load.readers++;
+        return load;
+    }
+
+    /**
+     * Unregisters a read started by {@link #start}.
+     *
+     * @param load the Load of the read
+     */
+    synchronized void finish(Load load) {
+        if (--load.readers > 0 || load.stale) return;
+        loads.remove(load.key);
+        unindex(loading, load.key);
+    }
+
+    /**
+     * Caches a value unless a write touching its rows happened since the read started.
+     *
+     * @param load  the Load of the read
+     * @param value the value read
+     */
+    synchronized void put(Load load, Object value) {
+        if (load.stale) return;
+
+        Key key = load.key;
+        Entry entry = new Entry(key, value == null ? NULL : value, System.nanoTime() + ttl);
+        Entry previous = entries.put(key, entry);
+        if (previous != null) unlink(previous);
+        clock.put(key, entry);
+        index(shapes, key);
+
+        while (clock.size() > maximumSize) {
+            Iterator<Entry> iterator = clock.values().iterator();
+            Entry eldest = iterator.next();
+            iterator.remove();
+            if (eldest.referenced) {
+                eldest.referenced = false;
+                clock.put(eldest.key, eldest);
+                continue;
+            }
+            entries.remove(eldest.key, eldest);
+            unlink(eldest);
+            evictions++;
+        }
+    }
+
+    /**
+     * Removes the entries that can contain the rows matched by a write.
+     *
+     * @param editedColumns the columns edited by the write, they can't be used to prove two reads are disjoint
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     */
+    synchronized void invalidate(String[] editedColumns, String[] columns, Object[] values) {
+        for (Shape shape : new ArrayList<>(loading.values())) {
+            for (Key key : shape.candidates(editedColumns, columns, values)) {
+                if (!key.overlaps(editedColumns, columns, values)) continue;
+                Load load = loads.remove(key);
+                unindex(loading, key);
+                if (load != null) load.stale = true;
+            }
+        }
+        for (Shape shape : new ArrayList<>(shapes.values())) {
+            for (Key key : shape.candidates(editedColumns, columns, values)) {
+                if (!key.overlaps(editedColumns, columns, values)) continue;
+                Entry entry = entries.remove(key);
+                if (entry == null) continue;
+                unlink(entry);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Removes every entry.
+     */
+    synchronized void invalidateAll() {
+        for (Load load : loads.values()) {
+            load.stale = true;
+        }
+        loads.clear();
+        loading.clear();
+        invalidations += clock.size();
+        entries.clear();
+        clock.clear();
+        shapes.clear();
+    }
+
+    /**
+     * Return false if a read can't return any row touched by a write.
+     *
+     * @param readColumns   the columns of the where clause of the read
+     * @param readValues    the values of the where clause of the read
+     * @param editedColumns the columns edited by the write
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     * @return true if the read and the write can touch the same rows
+     */
+    static boolean overlaps(String[] readColumns, Object[] readValues, String[] editedColumns, String[] columns, Object[] values) {
+        for (int i = 0; i < readColumns.length; i++) {
+            for (int j = 0; j < columns.length; j++) {
+                if (!readColumns[i].equalsIgnoreCase(columns[j])) continue;
+                if (Key.contains(editedColumns, columns[j])) continue;
+                if (Key.differs(readValues[i], values[j])) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return true if a value is indexed as a number. A number and a text are never proven different.
+     *
+     * @param value the value
+     * @return true for numbers and booleans
+     */
+    static boolean isNumber(Object value) {
+        return Key.number(value) != null;
+    }
+
+    /**
+     * Return the text under which a value is indexed, equal for the values {@link #overlaps} considers equal
+     * if they are both numbers or both not.
+     *
+     * @param value the value
+     * @return the normalized text of the value
+     */
+    static String indexText(Object value) {
+        BigDecimal number = Key.number(value);
+        return number != null ? Shape.text(number) : Shape.text(value);
+    }
+
+    synchronized CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions, invalidations, clock.size(), maximumSize);
+    }
+
+    private synchronized void expire(Entry entry) {
+        if (!entries.remove(entry.key, entry)) return;
+        unlink(entry);
+        evictions++;
+    }
+
+    /**
+     * Removes from the clock and from the index an entry no longer in the entries.
+     */
+    private void unlink(Entry entry) {
+        clock.remove(entry.key, entry);
+        unindex(shapes, entry.key);
+    }
+
+    private static void index(Map<String, Shape> shapes, Key key) {
+        shapes.computeIfAbsent(Shape.name(key.columns), name -> new Shape(key.columns.length)).add(key);
+    }
+
+    private static void unindex(Map<String, Shape> shapes, Key key) {
+        String name = Shape.name(key.columns);
+        Shape shape = shapes.get(name);
+        if (shape == null) return;
+        shape.remove(key);
+        if (shape.keys.isEmpty()) shapes.remove(name);
+    }
+
+    /**
+     * The key of a cached read: the query, its parameters and the type of the value read.
+     */
+    static class Key {
+        private final String query;
+        private final Object[] parameters;
+        private final Object type;
+        private final String[] columns;
+        private final Object[] values;
+        private final int hash;
+
+        Key(String query, Object[] parameters, Object type, String[] columns, Object[] values) {
+            this.query = query;
+            this.parameters = parameters;
+            this.type = type;
+            this.columns = columns;
+            this.values = values;
+            this.hash = 31 * (31 * query.hashCode() + Arrays.hashCode(parameters)) + type.hashCode();
+        }
+
+        Key detach() {
+            return new Key(query, parameters.clone(), type, columns.clone(), values.clone());
+        }
+
+        /**
+         * Return an identifier of the key that is the same on every server, used by the shared cache.
+         *
+         * @return the SHA-256 of the query, the type and the parameters in hex
+         */
+        String id() {
+            StringBuilder builder = new StringBuilder(query).append('\0').append(type);
+            for (Object parameter : parameters) {
+                builder.append('\0');
+                if (parameter == null) {
+                    builder.append("null");
+                    continue;
+                }
+                builder.append(parameter.getClass().getName())
+                        .append('=')
+                        .append(parameter instanceof byte[] ? Arrays.toString((byte[]) parameter) : parameter.toString());
+            }
+
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(builder.toString().getBytes(StandardCharsets.UTF_8));
+                StringBuilder id = new StringBuilder(digest.length * 2);
+                for (byte b : digest) {
+                    id.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+                }
+                return id.toString();
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        boolean overlaps(String[] editedColumns, String[] columns, Object[] values) {
+            return QueryCache.overlaps(this.columns, this.values, editedColumns, columns, values);
+        }
+
+        private static boolean contains(String[] columns, String column) {
+            for (String c : columns) {
+                if (c.equalsIgnoreCase(column)) return true;
+            }
+            return false;
+        }
+
+        private static boolean differs(Object a, Object b) {
+            if (a == null || b == null) return a != b;
+
+            BigDecimal x = number(a);
+            BigDecimal y = number(b);
+            if (x != null && y != null) return x.compareTo(y) != 0;
+            if (x != null || y != null) return false;
+
+            return !trim(a.toString()).equalsIgnoreCase(trim(b.toString()));
+        }
+
+        private static BigDecimal number(Object value) {
+            if (value instanceof Boolean) return (Boolean) value ? BigDecimal.ONE : BigDecimal.ZERO;
+            if (!(value instanceof Number)) return null;
+            try {
+                return new BigDecimal(value.toString());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String trim(String value) {
+            int end = value.length();
+            while (end > 0 && value.charAt(end - 1) == ' ') end--;
+            return value.substring(0, end);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return hash == key.hash &&
+                    query.equals(key.query) &&
+                    type.equals(key.type) &&
+                    Arrays.equals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A read that missed the cache and is querying the database, shared by the identical reads running together.
+     * Guarded by the cache.
+     */
+    static class Load {
+        private final Key key;
+        private int readers = 0;
+        private boolean stale = false;
+
+        private Load(Key key) {
+            this.key = key;
+        }
+    }
+
+    private static class Entry {
+        private final Key key;
+        private final Object value;
+        private final long expiresAt;
+        private volatile boolean referenced = false;
+
+        private Entry(Key key, Object value, long expiresAt) {
+            this.key = key;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * The index of the entries whose where clause has the same columns.
+     *
+     * <p>Each column maps the values read to the entries, numbers and booleans by numeric value and
+     * the other values by their text ignoring case and trailing spaces. A number and a text are never
+     * proven different, so a write looks up its own kind and every entry of the other kind.</p>
+     */
+    private static class Shape {
+        private final Set<Key> keys = new HashSet<>();
+        private final List<Map<String, Set<Key>>> numbers = new ArrayList<>();
+        private final List<Map<String, Set<Key>>> texts = new ArrayList<>();
+        private final int[] numberCounts;
+        private final int[] textCounts;
+
+        private Shape(int columns) {
+            for (int i = 0; i < columns; i++) {
+                numbers.add(new HashMap<>());
+                texts.add(new HashMap<>());
+            }
+            numberCounts = new int[columns];
+            textCounts = new int[columns];
+        }
+
+        private static String name(String[] columns) {
+            StringBuilder name = new StringBuilder();
+            for (String column : columns) {
+                name.append(column.toLowerCase(Locale.ROOT)).append(',');
+            }
+            return name.toString();
+        }
+
+        private void add(Key key) {
+            if (!keys.add(key)) return;
+            for (int i = 0; i < key.values.length; i++) {
+                BigDecimal number = Key.number(key.values[i]);
+                if (number != null) {
+                    numbers.get(i).computeIfAbsent(text(number), k -> new HashSet<>()).add(key);
+                    numberCounts[i]++;
+                } else {
+                    texts.get(i).computeIfAbsent(text(key.values[i]), k -> new HashSet<>()).add(key);
+                    textCounts[i]++;
+                }
+            }
+        }
+
+        private void remove(Key key) {
+            if (!keys.remove(key)) return;
+            for (int i = 0; i < key.values.length; i++) {
+                BigDecimal number = Key.number(key.values[i]);
+                if (number != null) {
+                    remove(numbers.get(i), text(number), key);
+                    numberCounts[i]--;
+                } else {
+                    remove(texts.get(i), text(key.values[i]), key);
+                    textCounts[i]--;
+                }
+            }
+        }
+
+        /**
+         * Return the entries that can overlap a write, a superset checked with {@link Key#overlaps}.
+         * The column of the where clause with the fewest candidates is used.
+         */
+        private Collection<Key> candidates(String[] editedColumns, String[] columns, Object[] values) {
+            if (keys.isEmpty()) return Collections.emptyList();
+
+            Key sample = keys.iterator().next();
+            Collection<Key> best = keys;
+            int bestSize = keys.size();
+            for (int i = 0; i < sample.columns.length; i++) {
+                for (int j = 0; j < columns.length; j++) {
+                    if (!sample.columns[i].equalsIgnoreCase(columns[j]) || Key.contains(editedColumns, columns[j])) continue;
+
+                    BigDecimal number = Key.number(values[j]);
+                    Set<Key> same = number != null ? numbers.get(i).get(text(number)) : texts.get(i).get(text(values[j]));
+                    int size = (same == null ? 0 : same.size()) + (number != null ? textCounts[i] : numberCounts[i]);
+                    if (size >= bestSize) continue;
+
+                    List<Key> candidates = new ArrayList<>(size);
+                    if (same != null) candidates.addAll(same);
+                    for (Set<Key> other : (number != null ? texts : numbers).get(i).values()) {
+                        candidates.addAll(other);
+                    }
+                    best = candidates;
+                    bestSize = size;
+                }
+            }
+            return best == keys ? new ArrayList<>(keys) : best;
+        }
+
+        private static void remove(Map<String, Set<Key>> index, String value, Key key) {
+            Set<Key> set = index.get(value);
+            if (set == null) return;
+            set.remove(key);
+            if (set.isEmpty()) index.remove(value);
+        }
+
+        private static String text(BigDecimal number) {
+            return number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+        }
+
+        /**
+         * Return the text of a value that is equal for the texts {@link Key#differs} considers equal.
+         */
+        private static String text(Object value) {
+            if (value == null) return "\0";
+            String text = Key.trim(value.toString());
+            StringBuilder folded = new StringBuilder(text.length());
+            for (int i = 0; i < text.length(); i++) {
+                folded.append(Character.toLowerCase(Character.toUpperCase(text.charAt(i))));
+            }
+            return folded.toString();
+        }
+    }
+}
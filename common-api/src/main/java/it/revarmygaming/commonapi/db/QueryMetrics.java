@@ -0,0 +1,230 @@
+package it.revarmygaming.commonapi.db;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects the latency of the statements run by a {@link SQLImplementation}, grouped by statement shape,
+ * and writes the slow queries to the log from a background thread.
+ */
+class QueryMetrics {
+
+    static final int MAXIMUM_SHAPES = 500;
+    static final String OTHER = "<other>";
+
+    private static final Logger LOGGER = Logger.getLogger("RAGCore");
+    private static final int LOG_QUEUE_SIZE = 1000;
+
+    private final String table;
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final LongAdder droppedLogs = new LongAdder();
+    private volatile long slowQueryThreshold = 0;
+    private volatile boolean logAll = false;
+    private volatile ThreadPoolExecutor logger;
+
+    QueryMetrics(String table) {
+        this.table = table;
+    }
+
+    /**
+     * Starts timing a statement, before the connection is acquired.
+     *
+     * @param query the parameterized query
+     * @return the Execution to complete once the statement is done
+     */
+    Execution start(String query) {
+        return new Execution(query);
+    }
+
+    /**
+     * Sets the duration above which a statement is written to the log, 0 to disable the slow query log.
+     *
+     * @param threshold the threshold
+     * @param unit      the unit of the threshold
+     */
+    void setSlowQueryThreshold(long threshold, TimeUnit unit) {
+        this.slowQueryThreshold = unit.toNanos(threshold);
+    }
+
+    long getSlowQueryThreshold(TimeUnit unit) {
+        return unit.convert(slowQueryThreshold, TimeUnit.NANOSECONDS);
+    }
+
+    void setLogAll(boolean logAll) {
+        this.logAll = logAll;
+    }
+
+    /**
+     * Return the number of log lines dropped because the log queue was full.
+     *
+     * @return the number of dropped lines
+     */
+    long getDroppedLogs() {
+        return droppedLogs.sum();
+    }
+
+    /**
+     * Return a snapshot of every statement shape, the slowest in total first.
+     *
+     * @return the list of QueryStats
+     */
+    List<QueryStats> stats() {
+        List<QueryStats> stats = new ArrayList<>(shapes.size());
+        for (Map.Entry<String, Shape> shape : shapes.entrySet()) {
+            stats.add(shape.getValue().stats(shape.getKey()));
+        }
+        stats.sort(Comparator.comparingLong(QueryStats::getTotalTime).reversed());
+        return stats;
+    }
+
+    void reset() {
+        shapes.clear();
+    }
+
+    /**
+     * Stops the log thread after writing the queued lines.
+     */
+    void shutdown() {
+        ThreadPoolExecutor logger = this.logger;
+        if (logger == null) return;
+        logger.shutdown();
+        try {
+            logger.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.logger = null;
+    }
+
+    /**
+     * Return true if the exception was thrown because the statement ran longer than its query timeout.
+     *
+     * @param e the exception thrown by the statement
+     * @return true if the statement timed out
+     */
+    static boolean isTimeout(Throwable e) {
+        if (e instanceof SQLTimeoutException) return true;
+        if (!(e instanceof SQLException)) return false;
+        SQLException exception = (SQLException) e;
+        return "57014".equals(exception.getSQLState()) || exception.getErrorCode() == 3024 ||
+                (exception.getMessage() != null && exception.getMessage().contains("SQLITE_INTERRUPT"));
+    }
+
+    private void record(String query, long acquireNanos, long executeNanos, long rows, boolean failed, boolean timeout) {
+        Shape shape = shapes.get(query);
+        if (shape == null) {
+            String bucket = shapes.size() >= MAXIMUM_SHAPES ? OTHER : query;
+            shape = shapes.computeIfAbsent(bucket, k -> new Shape());
+        }
+        shape.latency.record(TimeUnit.NANOSECONDS.toMicros(executeNanos));
+        shape.acquire.record(TimeUnit.NANOSECONDS.toMicros(acquireNanos));
+        shape.rows.add(rows);
+        if (failed) shape.errors.increment();
+        if (timeout) shape.timeouts.increment();
+
+        long threshold = slowQueryThreshold;
+        boolean slow = threshold > 0 && acquireNanos + executeNanos >= threshold;
+        if (slow || logAll || timeout) log(slow || timeout, query, acquireNanos, executeNanos, rows, failed, timeout);
+    }
+
+    private void log(boolean slow, String query, long acquireNanos, long executeNanos, long rows, boolean failed, boolean timeout) {
+        String message = String.format("%s on `%s` (%.2f ms, waited %.2f ms for the connection, %d rows%s): %s",
+                slow ? "Slow query" : "Query", table, executeNanos / 1e6, acquireNanos / 1e6, rows,
+                timeout ? ", timed out" : failed ? ", failed" : "", query);
+        Level level = slow ? Level.WARNING : Level.INFO;
+        try {
+            logger().execute(() -> LOGGER.log(level, message));
+        } catch (RejectedExecutionException e) {
+            droppedLogs.increment();
+        }
+    }
+
+    private ThreadPoolExecutor logger() {
+        ThreadPoolExecutor logger = this.logger;
+        if (logger == null) {
+            synchronized (this) {
+                logger = this.logger;
+                if (logger == null) {
+                    logger = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                            new LinkedBlockingQueue<>(LOG_QUEUE_SIZE), runnable -> {
+                        Thread thread = new Thread(runnable, "ragcore-sql-" + table + "-log");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    this.logger = logger;
+                }
+            }
+        }
+        return logger;
+    }
+
+    /**
+     * The timing of a single statement.
+     */
+    class Execution {
+        private final String query;
+        private final long start;
+        private long acquired;
+        private boolean done = false;
+
+        private Execution(String query) {
+            this.query = query;
+            this.start = System.nanoTime();
+            this.acquired = start;
+        }
+
+        /**
+         * Marks the connection as acquired, the time before is the acquire wait.
+         */
+        void acquired() {
+            acquired = System.nanoTime();
+        }
+
+        /**
+         * Records the statement as completed.
+         *
+         * @param rows the number of rows read or changed
+         */
+        void end(long rows) {
+            finish(rows, false, false);
+        }
+
+        /**
+         * Records the statement as failed, and as timed out if the exception says so
+         * and the operation was not cancelled on purpose.
+         *
+         * @param e the exception thrown by the statement
+         */
+        void fail(Throwable e) {
+            finish(0, true, isTimeout(e) && !Cancellation.isCurrentCancelled());
+        }
+
+        private void finish(long rows, boolean failed, boolean timeout) {
+            if (done) return;
+            done = true;
+            record(query, acquired - start, System.nanoTime() - acquired, rows, failed, timeout);
+        }
+    }
+
+    private static class Shape {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private QueryStats stats(String query) {
+            return new QueryStats(query, latency.getCount(), errors.sum(), timeouts.sum(), rows.sum(), latency.getSum(),
+                    latency.getPercentile(0.5), latency.getPercentile(0.99), latency.getMax(),
+                    acquire.getSum(), acquire.getPercentile(0.99), acquire.getMax());
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package it.revarmygaming.commonapi.db;
+
+/**
+ * A snapshot of the counters of a statement shape: every execution of the same parameterized query.
+ * Durations are in microseconds.
+ */
+public class QueryStats {
+
+    private final String query;
+    private final long count;
+    private final long errors;
+    private final long timeouts;
+    private final long rows;
+    private final long totalTime;
+    private final long p50;
+    private final long p99;
+    private final long max;
+    private final long acquireTotalTime;
+    private final long acquireP99;
+    private final long acquireMax;
+
+    public QueryStats(String query, long count, long errors, long timeouts, long rows, long totalTime, long p50, long p99, long max,
+                      long acquireTotalTime, long acquireP99, long acquireMax) {
+        this.query = query;
+        this.count = count;
+        this.errors = errors;
+        this.timeouts = timeouts;
+        this.rows = rows;
+        this.totalTime = totalTime;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+        this.acquireTotalTime = acquireTotalTime;
+        this.acquireP99 = acquireP99;
+        this.acquireMax = acquireMax;
+    }
+
+    /**
+     * Return the parameterized query of the shape.
+     *
+     * @return the query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Return the number of executions.
+     *
+     * @return the number of executions
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Return the number of executions that threw a SQLException.
+     *
+     * @return the number of errors
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Return the number of executions cancelled because they ran longer than the query timeout.
+     * They are also counted as errors.
+     *
+     * @return the number of timeouts
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Return the number of rows read by the queries or changed by the updates.
+     *
+     * @return the number of rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Return the time spent executing the statement and reading its result.
+     *
+     * @return the total time in microseconds
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    /**
+     * Return the mean execution time.
+     *
+     * @return the mean time in microseconds
+     */
+    public long getMean() {
+        return count == 0 ? 0 : totalTime / count;
+    }
+
+    /**
+     * Return the median execution time.
+     *
+     * @return the 50th percentile in microseconds
+     */
+    public long getP50() {
+        return p50;
+    }
+
+    /**
+     * Return the 99th percentile of the execution time.
+     *
+     * @return the 99th percentile in microseconds
+     */
+    public long getP99() {
+        return p99;
+    }
+
+    /**
+     * Return the longest execution time.
+     *
+     * @return the maximum time in microseconds
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Return the mean time waited to get a connection.
+     *
+     * @return the mean acquire time in microseconds
+     */
+    public long getAcquireMean() {
+        return count == 0 ? 0 : acquireTotalTime / count;
+    }
+
+    /**
+     * Return the 99th percentile of the time waited to get a connection.
+     *
+     * @return the 99th percentile of the acquire time in microseconds
+     */
+    public long getAcquireP99() {
+        return acquireP99;
+    }
+
+    /**
+     * Return the longest time waited to get a connection.
+     *
+     * @return the maximum acquire time in microseconds
+     */
+    public long getAcquireMax() {
+        return acquireMax;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStats{" +
+                "query='" + query + '\'' +
+                ", count=" + count +
+                ", errors=" + errors +
+                ", timeouts=" + timeouts +
+                ", rows=" + rows +
+                ", totalTime=" + totalTime +
+                ", p50=" + p50 +
+                ", p99=" + p99 +
+                ", max=" + max +
+                ", acquireMean=" + getAcquireMean() +
+                ", acquireP99=" + acquireP99 +
+                ", acquireMax=" + acquireMax +
+                '}';
+    }
+}
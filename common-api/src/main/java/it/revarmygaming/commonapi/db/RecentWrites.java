@@ -0,0 +1,235 @@
+package it.revarmygaming.commonapi.db;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the writes of the last moments, so the reads of the rows they touched can be sent to the primary
+ * database instead of a replica that may not have received them yet.
+ *
+ * <p>The writes are indexed like the entries of {@link QueryCache}: by the columns of their where clause not edited
+ * by the write, then by the value of each column. A read looks up, for each group of writes, only the writes with
+ * its own value in one of its columns. When more than 10000 writes are remembered they are replaced by a single
+ * write touching every row.</p>
+ */
+class RecentWrites {
+
+    private static final int MAXIMUM_WRITES = 10000;
+    private static final String[] NONE = new String[0];
+
+    private final long window;
+    private final ArrayDeque<Write> writes = new ArrayDeque<>();
+    private final Map<String, Shape> shapes = new HashMap<>();
+    private volatile int size = 0;
+
+    RecentWrites(long window, TimeUnit unit) {
+        if (window < 1) throw new IllegalArgumentException("Window must be at least 1");
+        this.window = unit.toNanos(window);
+    }
+
+    long getWindow(TimeUnit unit) {
+        return unit.convert(window, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Remembers a write.
+     *
+     * @param editedColumns the columns edited by the write
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     */
+    synchronized void record(String[] editedColumns, String[] columns, Object[] values) {
+        long now = System.nanoTime();
+        expire(now);
+        if (writes.size() >= MAXIMUM_WRITES) {
+            writes.clear();
+            shapes.clear();
+            editedColumns = columns = NONE;
+            values = new Object[0];
+        }
+
+        Write write = new Write(editedColumns, columns, values, now + window);
+        writes.addLast(write);
+        shapes.computeIfAbsent(Shape.name(write.columns), k -> new Shape(write.columns.length)).add(write);
+        size = writes.size();
+    }
+
+    /**
+     * Remembers a write that can touch every row.
+     */
+    void recordAll() {
+        record(NONE, NONE, new Object[0]);
+    }
+
+    /**
+     * Return true if a read can return a row touched by a remembered write.
+     *
+     * @param columns the columns of the where clause of the read
+     * @param values  the values of the where clause of the read
+     * @return true if the read must be sent to the primary
+     */
+    boolean touches(String[] columns, Object[] values) {
+        if (size == 0) return false;
+
+        synchronized (this) {
+            expire(System.nanoTime());
+            for (Shape shape : shapes.values()) {
+                if (shape.touches(columns, values)) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Forgets the writes older than the window. They expire in the order they were recorded.
+     */
+    private void expire(long now) {
+        Write head;
+        while ((head = writes.peekFirst()) != null && head.expiresAt - now <= 0) {
+            writes.pollFirst();
+            String name = Shape.name(head.columns);
+            Shape shape = shapes.get(name);
+            shape.remove(head);
+            if (shape.writes.isEmpty()) shapes.remove(name);
+        }
+        size = writes.size();
+    }
+
+    private static class Write {
+        private final String[] columns;
+        private final Object[] values;
+        private final long expiresAt;
+
+        /**
+         * Keeps only the columns of the where clause not edited by the write, the ones that can prove
+         * a read doesn't return its rows.
+         */
+        private Write(String[] editedColumns, String[] columns, Object[] values, long expiresAt) {
+            List<String> kept = new ArrayList<>(columns.length);
+            List<Object> keptValues = new ArrayList<>(columns.length);
+            for (int i = 0; i < columns.length; i++) {
+                if (contains(editedColumns, columns[i])) continue;
+                kept.add(columns[i]);
+                keptValues.add(values[i]);
+            }
+            this.columns = kept.toArray(NONE);
+            this.values = keptValues.toArray();
+            this.expiresAt = expiresAt;
+        }
+
+        private static boolean contains(String[] columns, String column) {
+            for (String c : columns) {
+                if (c.equalsIgnoreCase(column)) return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The index of the writes whose kept columns are the same.
+     *
+     * <p>Each column maps the values written to the writes, numbers and texts apart as in {@link QueryCache}.</p>
+     */
+    private static class Shape {
+        private final Set<Write> writes = new HashSet<>();
+        private final List<Map<String, Set<Write>>> numbers = new ArrayList<>();
+        private final List<Map<String, Set<Write>>> texts = new ArrayList<>();
+        private final int[] numberCounts;
+        private final int[] textCounts;
+
+        private Shape(int columns) {
+            for (int i = 0; i < columns; i++) {
+                numbers.add(new HashMap<>());
+                texts.add(new HashMap<>());
+            }
+            numberCounts = new int[columns];
+            textCounts = new int[columns];
+        }
+
+        private static String name(String[] columns) {
+            StringBuilder name = new StringBuilder();
+            for (String column : columns) {
+                name.append(column.toLowerCase(Locale.ROOT)).append(',');
+            }
+            return name.toString();
+        }
+
+        private void add(Write write) {
+            writes.add(write);
+            for (int i = 0; i < write.values.length; i++) {
+                String text = QueryCache.indexText(write.values[i]);
+                if (QueryCache.isNumber(write.values[i])) {
+                    numbers.get(i).computeIfAbsent(text, k -> new HashSet<>()).add(write);
+                    numberCounts[i]++;
+                } else {
+                    texts.get(i).computeIfAbsent(text, k -> new HashSet<>()).add(write);
+                    textCounts[i]++;
+                }
+            }
+        }
+
+        private void remove(Write write) {
+            if (!writes.remove(write)) return;
+            for (int i = 0; i < write.values.length; i++) {
+                String text = QueryCache.indexText(write.values[i]);
+                if (QueryCache.isNumber(write.values[i])) {
+                    remove(numbers.get(i), text, write);
+                    numberCounts[i]--;
+                } else {
+                    remove(texts.get(i), text, write);
+                    textCounts[i]--;
+                }
+            }
+        }
+
+        /**
+         * Return true if a write of this shape can touch the rows of a read. The column of the where clause
+         * with the fewest candidates is used, a read sharing no column with the shape is touched by any write.
+         */
+        private boolean touches(String[] columns, Object[] values) {
+            if (writes.isEmpty()) return false;
+
+            Write sample = writes.iterator().next();
+            int best = -1;
+            int column = -1;
+            int bestSize = Integer.MAX_VALUE;
+            for (int i = 0; i < sample.columns.length; i++) {
+                for (int j = 0; j < columns.length; j++) {
+                    if (!sample.columns[i].equalsIgnoreCase(columns[j])) continue;
+                    boolean number = QueryCache.isNumber(values[j]);
+                    Set<Write> same = (number ? numbers : texts).get(i).get(QueryCache.indexText(values[j]));
+                    int size = (same == null ? 0 : same.size()) + (number ? textCounts[i] : numberCounts[i]);
+                    if (size < bestSize) {
+                        best = j;
+                        column = i;
+                        bestSize = size;
+                    }
+                }
+            }
+            if (best == -1) return true;
+            if (bestSize == 0) return false;
+
+            boolean number = QueryCache.isNumber(values[best]);
+            Set<Write> same = (number ? numbers : texts).get(column).get(QueryCache.indexText(values[best]));
+            if (same != null && overlaps(same, columns, values)) return true;
+            for (Set<Write> other : (number ? texts : numbers).get(column).values()) {
+                if (overlaps(other, columns, values)) return true;
+            }
+            return false;
+        }
+
+        private static boolean overlaps(Set<Write> candidates, String[] columns, Object[] values) {
+            for (Write write : candidates) {
+                if (QueryCache.overlaps(columns, values, NONE, write.columns, write.values)) return true;
+            }
+            return false;
+        }
+
+        private static void remove(Map<String, Set<Write>> index, String value, Write write) {
+            Set<Write> set = index.get(value);
+            if (set == null) return;
+            set.remove(write);
+            if (set.isEmpty()) index.remove(value);
+        }
+    }
+}
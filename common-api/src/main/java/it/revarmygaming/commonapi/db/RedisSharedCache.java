@@ -0,0 +1,188 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * A {@link SharedCache} stored in Redis.
+ *
+ * <p>Besides the values, every table keeps a set of read keys for each where clause shape and a set for each
+ * column and value read, so a write finds the entries it touches with a SINTER instead of scanning the keys.
+ * The keys of a table share a hash tag, so they live on the same node of a Redis Cluster.</p>
+ */
+public class RedisSharedCache implements SharedCache {
+
+    public static final String DEFAULT_PREFIX = "ragcore:sql:";
+
+    private static final byte[] PUT = ("" +
+            "local generation = redis.call('GET', KEYS[1])\n" +
+            "if (generation or '0') ~= ARGV[1] then return 0 end\n" +
+            "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])\n" +
+            "local ttl = tonumber(ARGV[3])\n" +
+            "for i = 3, #KEYS do\n" +
+            "  redis.call('SADD', KEYS[i], i == 3 and ARGV[4] or ARGV[5])\n" +
+            "  if redis.call('PTTL', KEYS[i]) < ttl then redis.call('PEXPIRE', KEYS[i], ttl) end\n" +
+            "end\n" +
+            "return 1").getBytes(StandardCharsets.UTF_8);
+
+    private final JedisPool pool;
+    private final String prefix;
+
+    /**
+     * Creates a cache stored under the default prefix.
+     *
+     * @param pool the pool of Redis connections, it is not closed by the cache
+     */
+    public RedisSharedCache(@NotNull JedisPool pool) {
+        this(pool, DEFAULT_PREFIX);
+    }
+
+    /**
+     * Creates a cache stored under the given prefix.
+     *
+     * @param pool   the pool of Redis connections, it is not closed by the cache
+     * @param prefix the prefix of every Redis key of the cache
+     */
+    public RedisSharedCache(@NotNull JedisPool pool, @NotNull String prefix) {
+        this.pool = pool;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Lookup lookup(@NotNull String table, @NotNull String key) {
+        List<byte[]> values;
+        try (Jedis jedis = pool.getResource()) {
+            values = jedis.mget(bytes(value(table, key)), bytes(generationKey(table)));
+        }
+        byte[] generation = values.get(1);
+        return new Lookup(values.get(0), generation == null ? 0 : Long.parseLong(new String(generation, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void put(@NotNull String table, @NotNull String key, @NotNull byte[] value, @NotNull String[] columns,
+                    @NotNull Object[] values, long generation, long ttl) {
+        String shape = shape(columns);
+        List<byte[]> keys = new ArrayList<>(4 + columns.length);
+        keys.add(bytes(generationKey(table)));
+        keys.add(bytes(value(table, key)));
+        keys.add(bytes(shapes(table)));
+        keys.add(bytes(shape(table, shape)));
+        for (int i = 0; i < columns.length; i++) {
+            keys.add(bytes(index(table, columns[i], values[i])));
+        }
+        List<byte[]> arguments = Arrays.asList(bytes(Long.toString(generation)), value, bytes(Long.toString(Math.max(1, ttl))),
+                bytes(shape), bytes(key));
+
+        try (Jedis jedis = pool.getResource()) {
+            jedis.eval(PUT, keys, arguments);
+        }
+    }
+
+    @Override
+    public void invalidate(@NotNull String table, @NotNull String[] editedColumns, @NotNull String[] columns, @NotNull Object[] values) {
+        try (Jedis jedis = pool.getResource()) {
+            jedis.incr(generationKey(table));
+            for (String shape : jedis.smembers(shapes(table))) {
+                List<String> sets = new ArrayList<>();
+                sets.add(shape(table, shape));
+                for (String column : shape.isEmpty() ? new String[0] : shape.split(",")) {
+                    for (int j = 0; j < columns.length; j++) {
+                        if (!column.equalsIgnoreCase(columns[j]) || contains(editedColumns, columns[j])) continue;
+                        sets.add(index(table, column, values[j]));
+                    }
+                }
+
+                Set<String> keys = sets.size() == 1 ? jedis.smembers(sets.get(0)) : jedis.sinter(sets.toArray(new String[0]));
+                remove(jedis, table, shape, keys);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll(@NotNull String table) {
+        try (Jedis jedis = pool.getResource()) {
+            jedis.incr(generationKey(table));
+            for (String shape : jedis.smembers(shapes(table))) {
+                remove(jedis, table, shape, jedis.smembers(shape(table, shape)));
+            }
+        }
+    }
+
+    private void remove(Jedis jedis, String table, String shape, Set<String> keys) {
+        if (keys.isEmpty()) return;
+        String[] values = new String[keys.size()];
+        int i = 0;
+        for (String key : keys) {
+            values[i++] = value(table, key);
+        }
+        jedis.del(values);
+        jedis.srem(shape(table, shape), keys.toArray(new String[0]));
+    }
+
+    private String base(String table) {
+        return prefix + "{" + table + "}:";
+    }
+
+    private String generationKey(String table) {
+        return base(table) + "generation";
+    }
+
+    private String value(String table, String key) {
+        return base(table) + "value:" + key;
+    }
+
+    private String shapes(String table) {
+        return base(table) + "shapes";
+    }
+
+    private String shape(String table, String shape) {
+        return base(table) + "shape:" + shape;
+    }
+
+    private String index(String table, String column, Object value) {
+        return base(table) + "index:" + column.toLowerCase(Locale.ROOT) + "=" + normalize(value);
+    }
+
+    private static String shape(String[] columns) {
+        StringBuilder shape = new StringBuilder();
+        for (int i = 0; i < columns.length; i++) {
+            shape.append(columns[i].toLowerCase(Locale.ROOT));
+            if (i != columns.length - 1) shape.append(',');
+        }
+        return shape.toString();
+    }
+
+    /**
+     * Return the form of a value that is equal for the values the read cache considers equal:
+     * numbers by value, booleans as 1 and 0, strings ignoring case and trailing spaces.
+     */
+    private static String normalize(Object value) {
+        if (value == null) return "\0";
+        if (value instanceof Boolean) return (Boolean) value ? "1" : "0";
+
+        String string = value.toString();
+        try {
+            return new BigDecimal(string.trim()).stripTrailingZeros().toPlainString();
+        } catch (NumberFormatException e) {
+            int end = string.length();
+            while (end > 0 && string.charAt(end - 1) == ' ') end--;
+            return string.substring(0, end).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static boolean contains(String[] columns, String column) {
+        for (String c : columns) {
+            if (c.equalsIgnoreCase(column)) return true;
+        }
+        return false;
+    }
+
+    private static byte[] bytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,265 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A detached row read from the database.
+ *
+ * <p>Values are accessed by the index of the column in the projection (starts from 0) or by its name.
+ * SQL NULL values are returned as null by every accessor.</p>
+ */
+public class Row implements Serializable {
+
+    private final String[] columns;
+    private final Object[] values;
+
+    public Row(@NotNull String[] columns, @NotNull Object[] values) {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        this.columns = columns;
+        this.values = values;
+    }
+
+    /**
+     * Reads the current row of the ResultSet.
+     *
+     * @param result  the ResultSet positioned on the row to read
+     * @param columns the names of the columns of the ResultSet
+     * @return the Row
+     * @throws SQLException SQLException
+     */
+    static Row read(ResultSet result, String[] columns) throws SQLException {
+        Object[] values = new Object[columns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = result.getObject(i + 1);
+        }
+        return new Row(columns, values);
+    }
+
+    /**
+     * Return the names of the columns of the ResultSet.
+     *
+     * @param result the ResultSet
+     * @return the column labels in order
+     * @throws SQLException SQLException
+     */
+    static String[] columns(ResultSet result) throws SQLException {
+        ResultSetMetaData metaData = result.getMetaData();
+        String[] columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+        }
+        return columns;
+    }
+
+    /**
+     * Return the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Return the names of the columns.
+     *
+     * @return the column names in projection order
+     */
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * Return the index of a column.
+     *
+     * @param column the name of the column
+     * @return the index of the column (starts from 0)
+     */
+    public int indexOf(@NotNull String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(column)) return i;
+        }
+        throw new IllegalArgumentException("Column " + column + " is not in the row");
+    }
+
+    public boolean isNull(int index) {
+        return values[index] == null;
+    }
+
+    public Object getObject(int index) {
+        return values[index];
+    }
+
+    public <T> T getObject(int index, @NotNull Class<T> type) throws SQLException {
+        try {
+            return type.cast(values[index]);
+        } catch (ClassCastException e) {
+            throw new SQLException(e);
+        }
+    }
+
+    public String getString(int index) {
+        Object value = values[index];
+        return value == null ? null : value.toString();
+    }
+
+    public Boolean getBoolean(int index) {
+        Object value = values[index];
+        if (value == null || value instanceof Boolean) return (Boolean) value;
+        if (value instanceof Number) return ((Number) value).intValue() != 0;
+        return value.toString().equals("1") || Boolean.parseBoolean(value.toString());
+    }
+
+    public Byte getByte(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.byteValue();
+    }
+
+    public Short getShort(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.shortValue();
+    }
+
+    public Integer getInteger(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.intValue();
+    }
+
+    public Long getLong(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.longValue();
+    }
+
+    public Float getFloat(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.floatValue();
+    }
+
+    public Double getDouble(int index) throws SQLException {
+        Number number = number(index);
+        return number == null ? null : number.doubleValue();
+    }
+
+    public Timestamp getTimestamp(int index) throws SQLException {
+        Object value = values[index];
+        if (value == null || value instanceof Timestamp) return (Timestamp) value;
+        if (value instanceof java.util.Date) return new Timestamp(((java.util.Date) value).getTime());
+        if (value instanceof LocalDateTime) return Timestamp.valueOf((LocalDateTime) value);
+        if (value instanceof LocalDate) return Timestamp.valueOf(((LocalDate) value).atStartOfDay());
+        throw new SQLException("Cannot convert " + value.getClass().getName() + " to Timestamp");
+    }
+
+    public Date getDate(int index) throws SQLException {
+        Object value = values[index];
+        if (value == null || value instanceof Date) return (Date) value;
+        if (value instanceof java.util.Date) return new Date(((java.util.Date) value).getTime());
+        if (value instanceof LocalDate) return Date.valueOf((LocalDate) value);
+        if (value instanceof LocalDateTime) return Date.valueOf(((LocalDateTime) value).toLocalDate());
+        throw new SQLException("Cannot convert " + value.getClass().getName() + " to Date");
+    }
+
+    public Time getTime(int index) throws SQLException {
+        Object value = values[index];
+        if (value == null || value instanceof Time) return (Time) value;
+        if (value instanceof java.util.Date) return new Time(((java.util.Date) value).getTime());
+        if (value instanceof LocalTime) return Time.valueOf((LocalTime) value);
+        if (value instanceof LocalDateTime) return Time.valueOf(((LocalDateTime) value).toLocalTime());
+        throw new SQLException("Cannot convert " + value.getClass().getName() + " to Time");
+    }
+
+    public UUID getUUID(int index) throws SQLException {
+        Object value = values[index];
+        if (value == null || value instanceof UUID) return (UUID) value;
+        try {
+            return UUID.fromString(value.toString());
+        } catch (IllegalArgumentException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    public Object getObject(@NotNull String column) {
+        return getObject(indexOf(column));
+    }
+
+    public <T> T getObject(@NotNull String column, @NotNull Class<T> type) throws SQLException {
+        return getObject(indexOf(column), type);
+    }
+
+    public String getString(@NotNull String column) {
+        return getString(indexOf(column));
+    }
+
+    public Boolean getBoolean(@NotNull String column) {
+        return getBoolean(indexOf(column));
+    }
+
+    public Byte getByte(@NotNull String column) throws SQLException {
+        return getByte(indexOf(column));
+    }
+
+    public Short getShort(@NotNull String column) throws SQLException {
+        return getShort(indexOf(column));
+    }
+
+    public Integer getInteger(@NotNull String column) throws SQLException {
+        return getInteger(indexOf(column));
+    }
+
+    public Long getLong(@NotNull String column) throws SQLException {
+        return getLong(indexOf(column));
+    }
+
+    public Float getFloat(@NotNull String column) throws SQLException {
+        return getFloat(indexOf(column));
+    }
+
+    public Double getDouble(@NotNull String column) throws SQLException {
+        return getDouble(indexOf(column));
+    }
+
+    public Timestamp getTimestamp(@NotNull String column) throws SQLException {
+        return getTimestamp(indexOf(column));
+    }
+
+    public Date getDate(@NotNull String column) throws SQLException {
+        return getDate(indexOf(column));
+    }
+
+    public Time getTime(@NotNull String column) throws SQLException {
+        return getTime(indexOf(column));
+    }
+
+    public UUID getUUID(@NotNull String column) throws SQLException {
+        return getUUID(indexOf(column));
+    }
+
+    private Number number(int index) throws SQLException {
+        Object value = values[index];
+        if (value == null || value instanceof Number) return (Number) value;
+        if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+            throw new SQLException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Row{" +
+                "columns=" + Arrays.toString(columns) +
+                ", values=" + Arrays.toString(values) +
+                '}';
+    }
+}
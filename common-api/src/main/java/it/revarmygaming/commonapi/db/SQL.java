@@ -4,7 +4,11 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 interface SQL {
 
@@ -16,7 +20,7 @@ interface SQL {
     String getTable();
 
     /**
-     * Sets this to true to print queries.
+     * Sets this to true to log every query, from a background thread.
      *
      * @param printQuery Set this to true to print queries
      */
@@ -38,6 +42,92 @@ interface SQL {
      */
     CompositeResult executeQuery(String query) throws SQLException;
 
+    /**
+     * Executes a given parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    CompositeResult executeQuery(String query, Object... parameters) throws SQLException;
+
+    /**
+     * Executes a given parameterized MySQL query on a read connection of the connector, a replica if the connector
+     * has some. The replica can lag behind the primary, the query may not see the latest writes.
+     * Don't use it for locking reads or for queries depending on the session state.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    CompositeResult executeReadOnlyQuery(String query, Object... parameters) throws SQLException;
+
+    /**
+     * Executes a given parameterized MySQL query with a forward-only, read-only cursor using the fetch size of this instance,
+     * so the rows are streamed from the database instead of being loaded in memory.
+     * The Connection stays busy until the CompositeResult is closed.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    CompositeResult executeStreamingQuery(String query, Object... parameters) throws SQLException;
+
+    /**
+     * Streams the rows matching the given values, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    Stream<Row> stream(String[] columns, Object[] values, String... projection) throws SQLException;
+
+    /**
+     * Streams the rows matching the given value, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    Stream<Row> stream(String column, Object value, String... projection) throws SQLException;
+
+    /**
+     * Calls the handler for each row matching the given values, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    void forEach(String[] columns, Object[] values, CompositeResult.Handler handler, String... projection) throws SQLException;
+
+    /**
+     * Calls the handler for each row matching the given value, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    void forEach(String column, Object value, CompositeResult.Handler handler, String... projection) throws SQLException;
+
     /**
      * Executes an update given a MySQL query.
      *
@@ -46,6 +136,24 @@ interface SQL {
      */
     void executeUpdate(String query) throws SQLException;
 
+    /**
+     * Executes an update given a parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @throws SQLException SQLException
+     */
+    void executeUpdate(String query, Object... parameters) throws SQLException;
+
+    /**
+     * Executes a parameterized MySQL query once for each set of parameters as a JDBC batch in a single transaction.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind for each execution
+     * @throws SQLException SQLException
+     */
+    void executeBatch(String query, Collection<Object[]> parameters) throws SQLException;
+
     /**
      * Creates a new table if it is not present in the database.
      *
@@ -63,6 +171,16 @@ interface SQL {
      */
     void createTable(String[] args) throws SQLException;
 
+    /**
+     * Creates an index on the given columns if it is not present in the database.
+     *
+     * @param name    the name of the index
+     * @param unique  true to create a UNIQUE index
+     * @param columns the indexed columns
+     * @throws SQLException SQLException
+     */
+    void createIndex(String name, boolean unique, String... columns) throws SQLException;
+
     /**
      * Adds a new line to the table assigning the given values to the given columns.
      *
@@ -81,6 +199,33 @@ interface SQL {
      */
     void addLine(String column, Object value) throws SQLException;
 
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are sent in batches of 500 with multi-row INSERT statements, in a single transaction.
+     *
+     * @param columns the list of columns to edit
+     * @param rows    the values of each line, in the order of the columns
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    long addLines(String[] columns, Iterable<Object[]> rows) throws SQLException;
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are read lazily from the iterable and sent in batches with multi-row INSERT statements,
+     * so the memory used does not depend on the number of lines. Every line is added in a single transaction:
+     * if one of them fails none is added. The lines are written immediately even in write-behind mode
+     * and the whole read cache is invalidated.
+     *
+     * @param columns   the list of columns to edit
+     * @param rows      the values of each line, in the order of the columns
+     * @param batchSize the number of lines sent to the database at once, rounded up to fill the last multi-row statement
+     * @param progress  called after each batch with the number of lines sent so far, may be null
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    long addLines(String[] columns, Iterable<Object[]> rows, int batchSize, LongConsumer progress) throws SQLException;
+
     /**
      * Removes a line from the table where the given columns have the given values.
      *
@@ -751,6 +896,78 @@ interface SQL {
      */
     <T> List<T> getList(String column, Object value, String search, Class<T> type) throws SQLException;
 
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    int[] getIntArray(String[] columns, Object[] values, String search) throws SQLException;
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    int[] getIntArray(String column, Object value, String search) throws SQLException;
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    long[] getLongArray(String[] columns, Object[] values, String search) throws SQLException;
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    long[] getLongArray(String column, Object value, String search) throws SQLException;
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    double[] getDoubleArray(String[] columns, Object[] values, String search) throws SQLException;
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    double[] getDoubleArray(String column, Object value, String search) throws SQLException;
+
     /**
      * Gets the last Byte from the database.
      *
@@ -1019,6 +1236,432 @@ interface SQL {
      */
     <T> T getLastObject(String column, Object value, String search, Class<T> type) throws SQLException;
 
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Byte getLastByte(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Byte getLastByte(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Short getLastShort(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Short getLastShort(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Integer getLastInteger(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Integer getLastInteger(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Long getLastLong(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Long getLastLong(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Float getLastFloat(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Float getLastFloat(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Double getLastDouble(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Double getLastDouble(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    String getLastString(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    String getLastString(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Boolean getLastBoolean(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Boolean getLastBoolean(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Timestamp getLastTimestamp(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Timestamp getLastTimestamp(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Date getLastDate(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Date getLastDate(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Time getLastTime(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Time getLastTime(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Object getLastObject(String[] columns, Object[] values, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    Object getLastObject(String column, Object value, String search, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    <T> T getLastObject(String[] columns, Object[] values, String search, Class<T> type, String orderBy) throws SQLException;
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    <T> T getLastObject(String column, Object value, String search, Class<T> type, String orderBy) throws SQLException;
+
+    /**
+     * Gets the first row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    Row getRow(String[] columns, Object[] values, String... projection) throws SQLException;
+
+    /**
+     * Gets the first row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    Row getRow(String column, Object value, String... projection) throws SQLException;
+
+    /**
+     * Gets every row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    List<Row> getRows(String[] columns, Object[] values, String... projection) throws SQLException;
+
+    /**
+     * Gets every row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    List<Row> getRows(String column, Object value, String... projection) throws SQLException;
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination: the rows are ordered by the given
+     * columns and the page starts after the given key, so no row before it is scanned.
+     * The ordering columns should not contain NULL and together they should be unique
+     * (ex. the score followed by the primary key), otherwise rows with the same key can be skipped.
+     *
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @param orderColumns the columns used to order the rows, an index starting with them makes every page cheap
+     * @param descending   true to order the rows from the greatest
+     * @param afterKey     the values of the ordering columns after which the page starts,
+     *                     the {@link Page#getNextKey()} of the previous page or null for the first page
+     * @param limit        the maximum number of rows of the page
+     * @param projection   the names of the columns whose values are wanted, all the columns if empty.
+     *                     The ordering columns are read even if they are not in the projection
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    Page page(String[] columns, Object[] values, String[] orderColumns, boolean descending, Object[] afterKey, int limit, String... projection) throws SQLException;
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination, ordered by a unique column.
+     *
+     * @param columns     the list of columns for the research
+     * @param values      the list of values to be searched in the columns
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    Page page(String[] columns, Object[] values, String orderColumn, Object[] afterKey, int limit, String... projection) throws SQLException;
+
+    /**
+     * Gets a page of the rows matching the given value with keyset pagination, ordered by a unique column.
+     *
+     * @param column      the column for the research
+     * @param value       the value to be searched in the column
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    Page page(String column, Object value, String orderColumn, Object[] afterKey, int limit, String... projection) throws SQLException;
+
+    /**
+     * Gets the rows whose key column has one of the given values, with one query for every 500 keys.
+     * The queries run concurrently.
+     *
+     * @param keyColumn  the key column, it should be unique
+     * @param keys       the values of the key column, null values are ignored
+     * @param projection the names of the columns whose values are wanted, all the columns if empty.
+     *                   The key column is read even if it is not in the projection
+     * @param <K>        the type of the keys
+     * @return the Row of every key found, the keys without a line are missing
+     * @throws SQLException SQLException
+     */
+    <K> Map<K, Row> getMany(String keyColumn, Collection<K> keys, String... projection) throws SQLException;
+
+    /**
+     * Loads the entity whose key column has the given value.
+     * The fields of the class annotated with {@link Exposed} are read with a single query.
+     *
+     * @param type the class of the entity, it must have a constructor without parameters
+     *             and a field annotated with {@code @Exposed(key = true)}
+     * @param key  the value of the key column
+     * @param <T>  the type of the entity
+     * @return the entity, or null if no line has the given key
+     * @throws SQLException SQLException
+     */
+    <T> T load(Class<T> type, Object key) throws SQLException;
+
+    /**
+     * Saves an entity: the line with its key is updated, or added if it does not exist.
+     * Read-only fields are never written and the entity is written immediately even in write-behind mode.
+     *
+     * @param entity the entity to save
+     * @throws SQLException SQLException
+     */
+    void save(Object entity) throws SQLException;
+
+    /**
+     * Saves a collection of entities, grouped by class and written as JDBC batches:
+     * the lines with their keys are updated and the missing ones are added.
+     * Read-only fields are never written and the entities are written immediately even in write-behind mode.
+     *
+     * @param entities the entities to save
+     * @throws SQLException SQLException
+     */
+    void saveAll(Collection<?> entities) throws SQLException;
+
     /**
      * Update a list of columns with new values.
      *
@@ -1062,4 +1705,157 @@ interface SQL {
      * @throws SQLException SQLException
      */
     void set(String columnToEdit, Object newObject, String column, Object value) throws SQLException;
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    void increment(String[] columnsToEdit, Number[] deltas, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    void increment(String columnToEdit, Number delta, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    void increment(String[] columnsToEdit, Number[] deltas, String column, Object value) throws SQLException;
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    void increment(String columnToEdit, Number delta, String column, Object value) throws SQLException;
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    void decrement(String[] columnsToEdit, Number[] deltas, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    void decrement(String columnToEdit, Number delta, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    void decrement(String[] columnsToEdit, Number[] deltas, String column, Object value) throws SQLException;
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    void decrement(String columnToEdit, Number delta, String column, Object value) throws SQLException;
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key columns must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param keyValues  the list of values of the key
+     * @param columns    the list of columns to edit
+     * @param values     the list of values to be assigned to the columns
+     * @throws SQLException SQLException
+     */
+    void upsert(String[] keyColumns, Object[] keyValues, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param columns   the list of columns to edit
+     * @param values    the list of values to be assigned to the columns
+     * @throws SQLException SQLException
+     */
+    void upsert(String keyColumn, Object keyValue, String[] columns, Object[] values) throws SQLException;
+
+    /**
+     * Adds a line with the given key, or updates its column if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param column    the column to edit
+     * @param value     the value to be assigned to the column
+     * @throws SQLException SQLException
+     */
+    void upsert(String keyColumn, Object keyValue, String column, Object value) throws SQLException;
+
+    /**
+     * Upserts many lines as a JDBC batch in a single transaction.
+     * The lines are written immediately even in write-behind mode and the whole read cache is invalidated.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param columns    the list of columns to edit
+     * @param rows       the values of each line: the key values followed by the values of the columns
+     * @throws SQLException SQLException
+     */
+    void upsertAll(String[] keyColumns, String[] columns, Collection<Object[]> rows) throws SQLException;
+
+    /**
+     * Runs the given block in a transaction: the operations made in the block use a single connection
+     * and are committed together when it returns, or rolled back if it throws.
+     * A block rolled back by a deadlock is run again.
+     *
+     * @param work the block of operations
+     * @throws SQLException the exception thrown by the block or by the commit
+     */
+    void transaction(Transaction.Work work) throws SQLException;
 }
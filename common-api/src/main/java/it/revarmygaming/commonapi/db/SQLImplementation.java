@@ -1,20 +1,81 @@
 package it.revarmygaming.commonapi.db;
 
+import it.revarmygaming.commonapi.Reference;
 import it.revarmygaming.commonapi.db.connectors.Connector;
+import it.revarmygaming.commonapi.db.connectors.PoolStats;
+import it.revarmygaming.commonapi.redis.messanger.Message;
+import it.revarmygaming.commonapi.redis.messanger.Messenger;
 import org.jetbrains.annotations.NotNull;
 
+import java.math.BigDecimal;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 class SQLImplementation implements SQL {
+    private static final int DEFAULT_BULK_SIZE = 500;
+    private static final int IN_SIZE = 500;
+
     private String table;
-    private boolean printQuery = false;
+    private int fetchSize = 0;
     private Connector connector;
-
-    SQLImplementation(Connector connector, String table) {
+    private StatementCache statements;
+    private int asyncThreads;
+    private int asyncQueueSize;
+    private volatile AsyncSQL async;
+    private volatile WriteBehind writeBehind;
+    private volatile DeltaBuffer deltaBuffer;
+    private volatile QueryCache cache;
+    private volatile RecentWrites recentWrites;
+    private volatile SingleFlight singleFlight;
+    private volatile SecondLevelCache sharedCache;
+    private volatile InvalidationPublisher publisher;
+    private final ThreadLocal<Transaction> transactions = new ThreadLocal<>();
+    private volatile int transactionRetries = 3;
+    private volatile int queryTimeout = 0;
+    private final ThreadLocal<Integer> callTimeout = new ThreadLocal<>();
+    private QueryMetrics metrics;
+    private volatile boolean monitored = false;
+
+    SQLImplementation(Connector connector, String table, Dialect dialect, int asyncThreads, int asyncQueueSize) {
         this.connector = connector;
         this.table = table;
+        this.statements = new StatementCache(table, dialect);
+        this.metrics = new QueryMetrics(table);
+        this.metrics.setLogAll(Reference.logDBQueries);
+        this.asyncThreads = asyncThreads;
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    SQLImplementation(Connector connector, String table, int asyncThreads, int asyncQueueSize) {
+        this(connector, table, Dialect.MYSQL, asyncThreads, asyncQueueSize);
+    }
+
+    SQLImplementation(Connector connector, String table) {
+        this(connector, table, 1, AsyncSQL.DEFAULT_QUEUE_SIZE);
+    }
+
+    /**
+     * Return the SQL syntax used by this instance.
+     *
+     * @return the Dialect
+     */
+    public Dialect getDialect() {
+        return statements.getDialect();
     }
 
     /**
@@ -27,426 +88,1919 @@ class SQLImplementation implements SQL {
     }
 
     /**
-     * Sets this to true to print queries.
+     * Sets this to true to log every query, from a background thread.
+     * The default value is the query-logging setting of RAGCore.
      *
      * @param printQuery Set this to true to print queries
      */
     public void setPrintQuery(boolean printQuery) {
-        this.printQuery = printQuery;
+        metrics.setLogAll(printQuery);
     }
 
     /**
-     * Terminates the connection with the database.
+     * Sets the duration above which a query is written to the log as slow, from a background thread.
+     * The duration includes the time waited for a connection.
+     *
+     * @param threshold the threshold, 0 to disable the slow query log
+     * @param unit      the unit of the threshold
      */
-    public void shutdown() {
-        connector.shutdown();
+    public void setSlowQueryThreshold(long threshold, @NotNull TimeUnit unit) {
+        metrics.setSlowQueryThreshold(threshold, unit);
     }
 
+    /**
+     * Return the duration above which a query is written to the log as slow.
+     *
+     * @param unit the unit of the returned threshold
+     * @return the threshold, 0 if the slow query log is disabled
+     */
+    public long getSlowQueryThreshold(@NotNull TimeUnit unit) {
+        return metrics.getSlowQueryThreshold(unit);
+    }
 
     /**
-     * Restart the connection with the database.
+     * Return the latency of every statement shape run by this instance, the slowest in total first.
+     * Statement shapes are the parameterized queries, after 500 distinct shapes the new ones are grouped
+     * under the query "&lt;other&gt;".
      *
-     * @throws SQLException on error when shutdown or connecting
+     * @return the list of QueryStats
      */
-    public void reset() throws SQLException {
-        connector.shutdown();
-        connector.connect();
+    public List<QueryStats> getQueryStats() {
+        return metrics.stats();
     }
 
     /**
-     * Return the ping with the database.
+     * Resets the latency of every statement shape.
+     */
+    public void resetQueryStats() {
+        metrics.reset();
+    }
+
+    /**
+     * Return the state of the connection pool.
      *
-     * @return The ping in milliseconds with the database
+     * @return the PoolStats, or null if the connector doesn't pool its connections
      */
-    public long ping() {
-        long start = System.currentTimeMillis();
-        Connection connection = null;
-        PreparedStatement statement = null;
+    public PoolStats getPoolStats() {
+        return connector.getPoolStats();
+    }
 
-        try {
-            connection = connector.connect();
-            statement = connection.prepareStatement("SELECT 1");
-            statement.execute();
-            return System.currentTimeMillis() - start;
-        } catch (SQLException ignored) {
-            return -1;
-        } finally {
-            DBUtils.closeQuietly(statement);
-            DBUtils.closeQuietly(connection);
+    /**
+     * Return the asynchronous facade of this instance.
+     * The executor is created on the first call and is sized like the connection pool.
+     *
+     * @return the AsyncSQL of this instance
+     */
+    public AsyncSQL async() {
+        if (async == null) {
+            synchronized (this) {
+                if (async == null) async = new AsyncSQL(this, asyncThreads, asyncQueueSize);
+            }
         }
+        return async;
     }
 
     /**
-     * Executes a given MySQL query.
+     * Enables the read cache: the values read by the getters, getList, getRow, getRows and lineExists
+     * are kept in memory and served without querying the database.
+     * Writes made through addLine, set, upsert and removeLine of this instance invalidate the entries
+     * that can contain the lines they touch, executeUpdate and executeBatch invalidate every entry.
+     * Writes made by other instances or applications are visible only when the entries expire.
      *
-     * @param query the query to be executed
-     * @return the CompositeResult of the query
-     * @throws SQLException SQLException
+     * @param maximumSize the maximum number of cached values, the least recently used one is evicted when full
+     * @param ttl         the time a value stays in the cache
+     * @param unit        the unit of the ttl
      */
-    public CompositeResult executeQuery(@NotNull String query) throws SQLException {
-        if (query.trim().isEmpty())
-            throw new IllegalArgumentException("Query cannot be empty");
-
-        Connection connection = connector.connect();
-        PreparedStatement statement = connection.prepareStatement(query);
-        ResultSet result = statement.executeQuery();
+    public void enableCache(int maximumSize, long ttl, @NotNull TimeUnit unit) {
+        cache = new QueryCache(maximumSize, ttl, unit);
+    }
 
-        if (printQuery) System.out.println(query);
+    /**
+     * Disables the read cache, removing every cached value.
+     */
+    public void disableCache() {
+        cache = null;
+    }
 
-        return new CompositeResult(connection, statement, result, query);
+    /**
+     * Return true if the read cache is enabled.
+     *
+     * @return true if reads are cached
+     */
+    public boolean isCacheEnabled() {
+        return cache != null;
     }
 
     /**
-     * Executes an update given a MySQL query.
+     * Return the counters of the read cache.
      *
-     * @param query the query to be executed
-     * @throws SQLException SQLException
+     * @return the CacheStats, or null if the cache is disabled
      */
-    public void executeUpdate(@NotNull String query) throws SQLException {
-        if (query.trim().isEmpty())
-            throw new IllegalArgumentException("Query cannot be empty");
+    public CacheStats getCacheStats() {
+        QueryCache cache = this.cache;
+        return cache == null ? null : cache.stats();
+    }
 
-        Connection connection = null;
-        PreparedStatement statement = null;
+    /**
+     * Removes every value from the read cache.
+     */
+    public void invalidateCache() {
+        QueryCache cache = this.cache;
+        if (cache != null) cache.invalidateAll();
+    }
 
-        try {
-            connection = connector.connect();
-            statement = connection.prepareStatement(query);
-            statement.executeUpdate();
+    /**
+     * Sends the reads of the rows written by this instance to the primary database for the given time
+     * after the write, instead of a replica that may not have received it yet.
+     * Writes made by executeUpdate, executeBatch, addLines and upsertAll send every read to the primary.
+     * It has an effect only when the connector has replicas, on the getters, getList, getRows, lineExists,
+     * getMany, stream and forEach. executeQuery always runs on the primary, executeReadOnlyQuery never checks it.
+     *
+     * @param window the time after a write during which the reads of its rows go to the primary, 0 to disable it
+     * @param unit   the unit of the window
+     */
+    public void setReadYourWritesWindow(long window, @NotNull TimeUnit unit) {
+        recentWrites = window > 0 ? new RecentWrites(window, unit) : null;
+    }
 
-            if (printQuery) System.out.println(query);
-        } finally {
-            DBUtils.closeQuietly(statement);
-            DBUtils.closeQuietly(connection);
-        }
+    /**
+     * Return the time after a write during which the reads of its rows go to the primary.
+     *
+     * @param unit the unit of the returned window
+     * @return the window, 0 if disabled
+     */
+    public long getReadYourWritesWindow(@NotNull TimeUnit unit) {
+        RecentWrites recentWrites = this.recentWrites;
+        return recentWrites == null ? 0 : recentWrites.getWindow(unit);
     }
 
     /**
-     * Creates a new table if it is not present in the database.
+     * Enables or disables the coalescing of identical reads: while a read made by the getters, getList, getRow,
+     * getRows or lineExists is running, the same read with the same parameters made by other threads waits
+     * for its result instead of querying the database again.
+     * A write made through this instance detaches the reads in flight that can return the lines it touches,
+     * so a read started after a write always runs a new query. Reads in a transaction are never coalesced.
+     * A waiting read keeps its own query timeout and cancellation, and runs again if the read it waits for
+     * times out or is cancelled.
      *
-     * @param args    the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
-     * @param charset the default character set
-     * @throws SQLException SQLException
+     * @param singleFlight true to coalesce identical reads in flight
      */
-    public void createTable(@NotNull String[] args, String charset) throws SQLException {
-        StringBuilder query = new StringBuilder();
-        query.append("CREATE TABLE IF NOT EXISTS `")
-                .append(this.table)
-                .append("` (");
-        for (int i = 0; i < args.length; i++) {
-            query.append(args[i]);
-            if (i != args.length - 1) query.append(", ");
-        }
-        if (charset == null || charset.isEmpty()) {
-            query.append(");");
-        } else {
-            query.append(") DEFAULT CHARACTER SET ").append(charset).append(";");
-        }
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight ? new SingleFlight() : null;
+    }
 
-        executeUpdate(query.toString());
+    /**
+     * Return true if identical reads in flight are coalesced.
+     *
+     * @return true if the single-flight mode is enabled
+     */
+    public boolean isSingleFlight() {
+        return singleFlight != null;
     }
 
     /**
-     * Creates a new table if it is not present in the database.
+     * Return the number of reads that received the result of an identical read in flight instead of querying the database.
      *
-     * @param args the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
-     * @throws SQLException SQLException
+     * @return the number of coalesced reads, 0 if the single-flight mode is disabled
      */
-    public void createTable(@NotNull String[] args) throws SQLException {
-        createTable(args, null);
+    public long getCoalescedReads() {
+        SingleFlight singleFlight = this.singleFlight;
+        return singleFlight == null ? 0 : singleFlight.getCoalesced();
     }
 
     /**
-     * Adds a new line to the table assigning the given values to the given columns.
+     * Enables a second level of the read cache shared by every server, checked when a read is not in the
+     * cache of this instance. A read found in the shared cache is also stored in the cache of this instance,
+     * if enabled. The values are stored with the Java serialization.
+     * A write made through this instance removes the shared entries that can contain the lines it touches,
+     * the writes made by other means are seen after the TTL. Reads in a transaction don't use the shared cache.
+     * If the shared cache can't be reached the reads fall back to the database and the shared cache is skipped for 10 seconds.
      *
-     * @param columns the list of columns to edit
-     * @param values  the list of values to be added to the columns
-     * @throws SQLException SQLException
+     * @param sharedCache the shared cache, like a {@link RedisSharedCache}
+     * @param ttl         the time a value stays in the shared cache
+     * @param unit        the unit of the ttl
      */
-    public void addLine(@NotNull String[] columns, Object[] values) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
+    public void enableSharedCache(@NotNull SharedCache sharedCache, long ttl, @NotNull TimeUnit unit) {
+        this.sharedCache = new SecondLevelCache(sharedCache, table, ttl, unit);
+    }
 
-        StringBuilder query = new StringBuilder();
-        query.append("INSERT INTO `")
-                .append(this.table)
-                .append("` (");
-        for (int i = 0; i < columns.length; i++) {
-            query.append("`")
-                    .append(columns[i])
-                    .append("`");
-            if (i != columns.length - 1) query.append(", ");
-        }
-        query.append(") VALUES (");
-        for (int i = 0; i < values.length; i++) {
-            if (values[i] instanceof Boolean) {
-                if ((boolean) values[i]) values[i] = 1;
-                else values[i] = 0;
-            }
-            query.append("'")
-                    .append(values[i])
-                    .append("'");
-            if (i != values.length - 1) query.append(", ");
-        }
-        query.append(");");
+    /**
+     * Disables the shared cache, its entries are left to expire.
+     */
+    public void disableSharedCache() {
+        sharedCache = null;
+    }
 
-        executeUpdate(query.toString());
+    /**
+     * Return true if the shared cache is enabled.
+     *
+     * @return true if reads are cached in the shared cache
+     */
+    public boolean isSharedCacheEnabled() {
+        return sharedCache != null;
     }
 
     /**
-     * Adds a new line to the table assigning the given value to the given column.
+     * Sets the messenger on which a {@link CacheInvalidation} is published after every write made through this
+     * instance, so the other servers remove the entries of their read cache that can contain the lines it touches.
+     * The messages are published from a background thread. The other servers pass the messages they receive
+     * to {@link #handleMessage(Message)}.
      *
-     * @param column the column to edit
-     * @param value  the value to be added to the column
-     * @throws SQLException SQLException
+     * @param messenger the messenger, null to stop publishing
      */
-    public void addLine(@NotNull String column, Object value) throws SQLException {
-        addLine(new String[]{column}, new Object[]{value});
+    public synchronized void setMessenger(Messenger messenger) {
+        InvalidationPublisher publisher = this.publisher;
+        this.publisher = messenger == null ? null : new InvalidationPublisher(messenger, table);
+        if (publisher != null) publisher.shutdown();
     }
 
     /**
-     * Removes a line from the table where the given columns have the given values.
+     * Removes the entries of the read cache of this instance invalidated by a message received from the messenger.
+     * Messages that are not a {@link CacheInvalidation} of this table are ignored.
      *
-     * @param columns the list of columns for the research
-     * @param values  the values to be searched in the columns
-     * @throws SQLException SQLException
+     * @param message the message received
+     * @return true if the message was an invalidation of this table
      */
-    public void removeLine(@NotNull String[] columns, Object[] values) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
+    public boolean handleMessage(@NotNull Message message) {
+        if (!CacheInvalidation.ACTION.equals(message.getAction()) || !(message.getData() instanceof CacheInvalidation)) return false;
+        CacheInvalidation invalidation = (CacheInvalidation) message.getData();
+        if (!table.equalsIgnoreCase(invalidation.getTable())) return false;
 
-        StringBuilder query = new StringBuilder();
-        query.append("DELETE FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`").append(columns[i]).append("`").append(" IS NULL");
-            else query.append("`").append(columns[i]).append("`").append(" = '").append(values[i]).append("'");
-            if (i != columns.length - 1) query.append(" AND ");
+        QueryCache cache = this.cache;
+        SingleFlight singleFlight = this.singleFlight;
+        if (invalidation.isAll()) {
+            if (cache != null) cache.invalidateAll();
+            if (singleFlight != null) singleFlight.invalidateAll();
+        } else {
+            String[] editedColumns = invalidation.getEditedColumns();
+            String[] columns = invalidation.getColumns();
+            Object[] values = invalidation.getValues();
+            if (cache != null) cache.invalidate(editedColumns, columns, values);
+            if (singleFlight != null) singleFlight.invalidate(editedColumns, columns, values);
         }
-        query.append(");");
-
-        executeUpdate(query.toString());
+        return true;
     }
 
     /**
-     * Removes a line from the table where the given columns have the given values.
+     * Return true if the calling thread is running a transaction of this instance.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @throws SQLException SQLException
+     * @return true if in a transaction
      */
-    public void removeLine(@NotNull String column, Object value) throws SQLException {
-        removeLine(new String[]{column}, new Object[]{value});
+    boolean inTransaction() {
+        return transactions.get() != null;
     }
 
     /**
-     * Checks if a line exists with the given values in the given columns.
+     * Invalidates the cache and pins the reads to the primary after a write that can touch every row.
+     */
+    private void written() {
+        Transaction transaction = transactions.get();
+        if (transaction != null) {
+            transaction.afterCommit(this::written);
+            return;
+        }
+
+        invalidateCache();
+        RecentWrites recentWrites = this.recentWrites;
+        if (recentWrites != null) recentWrites.recordAll();
+        SingleFlight singleFlight = this.singleFlight;
+        if (singleFlight != null) singleFlight.invalidateAll();
+        SecondLevelCache sharedCache = this.sharedCache;
+        if (sharedCache != null) sharedCache.invalidateAll();
+        InvalidationPublisher publisher = this.publisher;
+        if (publisher != null) publisher.publish(new CacheInvalidation(table));
+    }
+
+    /**
+     * Invalidates the cache and pins the reads to the primary after a write.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @throws SQLException SQLException
+     * @param editedColumns the columns edited by the write
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
      */
-    public boolean lineExists(@NotNull String[] columns, Object[] values) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
+    private void written(String[] editedColumns, String[] columns, Object[] values) {
+        Transaction transaction = transactions.get();
+        if (transaction != null) {
+            transaction.afterCommit(() -> written(editedColumns, columns, values));
+            return;
+        }
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(this.table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
+        QueryCache cache = this.cache;
+        if (cache != null) cache.invalidate(editedColumns, columns, values);
+        RecentWrites recentWrites = this.recentWrites;
+        if (recentWrites != null) recentWrites.record(editedColumns, columns, values);
+        SingleFlight singleFlight = this.singleFlight;
+        if (singleFlight != null) singleFlight.invalidate(editedColumns, columns, values);
+        SecondLevelCache sharedCache = this.sharedCache;
+        if (sharedCache != null) sharedCache.invalidate(editedColumns, columns, values);
+        InvalidationPublisher publisher = this.publisher;
+        if (publisher != null) publisher.publish(new CacheInvalidation(table, editedColumns, columns, values));
+    }
+
+    /**
+     * Runs a read through the cache, the shared cache and the coalescing of identical reads.
+     *
+     * @param query      the parameterized query
+     * @param parameters the parameters to bind to the query
+     * @param type       the type of the value read, part of the cache key
+     * @param columns    the columns of the where clause, used to invalidate the entry
+     * @param values     the values of the where clause, used to invalidate the entry
+     * @param reader     reads the value from the result
+     * @return the value read
+     * @throws SQLException SQLException
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(String query, Object[] parameters, Object type, String[] columns, Object[] values, ResultReader<T> reader) throws SQLException {
+        boolean transaction = transactions.get() != null;
+        QueryCache cache = transaction ? null : this.cache;
+        SingleFlight singleFlight = transaction ? null : this.singleFlight;
+        SecondLevelCache sharedCache = transaction ? null : this.sharedCache;
+        QueryCache.Key key = cache != null || singleFlight != null || sharedCache != null
+                ? new QueryCache.Key(query, parameters, type, columns, values) : null;
+        QueryCache.Load load = null;
+
+        if (cache != null) {
+            Object cached = cache.get(key);
+            if (cached == QueryCache.NULL) return null;
+            if (cached != null) return (T) copy(cached);
+            load = cache.start(key);
         }
-        query.append(");");
 
-        CompositeResult result = executeQuery(query.toString());
-        boolean b = result.getResult().next();
-        result.close();
-        return b;
+        try {
+            long sharedGeneration = 0;
+            if (sharedCache != null) {
+                SecondLevelCache.Result shared = sharedCache.get(key);
+                if (shared.value != null) {
+                    T t = shared.value == QueryCache.NULL ? null : (T) shared.value;
+                    if (load != null) cache.put(load, copy(t));
+                    return t;
+                }
+                sharedGeneration = shared.generation;
+            }
+
+            boolean primary = recentlyWritten(columns, values);
+            T t;
+            if (singleFlight != null) {
+                t = (T) singleFlight.run(key, primary, timeout(), () -> read(query, parameters, primary, reader));
+                t = (T) copy(t);
+            } else {
+                t = read(query, parameters, primary, reader);
+            }
+
+            if (load != null) {
+                cache.put(load, copy(t));
+            }
+            if (sharedCache != null) {
+                sharedCache.put(key, t, columns, values, sharedGeneration);
+            }
+            return t;
+        } finally {
+            if (load != null) cache.finish(load);
+        }
     }
 
     /**
-     * Checks if a line exists with the given value in the given column.
-     *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @throws SQLException SQLException
+     * Return true if the lines matching the given values were written within the read-your-writes window,
+     * so they must be read from the primary database.
      */
-    public boolean lineExists(@NotNull String column, Object value) throws SQLException {
-        return lineExists(new String[]{column}, new Object[]{value});
+    private boolean recentlyWritten(String[] columns, Object[] values) {
+        RecentWrites recentWrites = this.recentWrites;
+        return recentWrites != null && recentWrites.touches(columns, values);
     }
 
     /**
-     * Gets a Byte from the database.
-     *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
-     * @throws SQLException SQLException
+     * Return a copy of a mutable value, so the value in the cache and the one returned to the caller are not shared.
      */
-    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+    private static Object copy(Object value) {
+        if (value instanceof List) return new ArrayList<>((List<?>) value);
+        if (value instanceof int[]) return ((int[]) value).clone();
+        if (value instanceof long[]) return ((long[]) value).clone();
+        if (value instanceof double[]) return ((double[]) value).clone();
+        return value;
+    }
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
+    private <T> T read(String query, Object[] parameters, boolean primary, ResultReader<T> reader) throws SQLException {
+        CompositeResult result = query(query, parameters, primary);
+        try {
+            return reader.read(result);
+        } finally {
+            result.close();
         }
-        query.append(");");
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Byte b = null;
-        if (result.getResult().absolute(row)) {
-            b = result.getResult().getByte(search);
-        }
-        result.close();
-        return b;
+    @FunctionalInterface
+    interface ResultReader<T> {
+        T read(CompositeResult result) throws SQLException;
     }
 
     /**
-     * Gets a Byte from the database.
+     * Enables the write-behind mode: addLine, set, upsert and removeLine are queued and written as JDBC batches
+     * when the queue reaches the batch size or when the flush interval elapses.
+     * Mutations are written in the order they were queued. Updates, upserts and deletes with the same where or key
+     * values are coalesced, only the last one is written, unless a mutation of another kind was queued in between.
+     * A batch that fails is kept in the queue and written again by the next flush. A batch rejected 3 times by the
+     * database is written one mutation at a time, the mutations still rejected are dropped and logged.
+     * When 10 batches are queued, the thread queuing a mutation flushes the queue itself and gets the error on failure.
+     * Reads do not see the queued mutations until they are flushed.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @param batchSize the number of queued mutations that triggers a flush
+     * @param interval  the maximum time a mutation stays in the queue
+     * @param unit      the unit of the interval
+     * @throws SQLException on error when flushing the previous queue
      */
-    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getByte(columns, values, search, 1);
+    public synchronized void enableWriteBehind(int batchSize, long interval, @NotNull TimeUnit unit) throws SQLException {
+        disableWriteBehind();
+        writeBehind = new WriteBehind(this, batchSize, interval, unit);
     }
 
     /**
-     * Gets a Byte from the database.
+     * Disables the write-behind mode, writing every queued mutation.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
-     * @throws SQLException SQLException
+     * @throws SQLException on error when flushing the queue
      */
-    public Byte getByte(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getByte(new String[]{column}, new Object[]{value}, search, row);
+    public synchronized void disableWriteBehind() throws SQLException {
+        WriteBehind writeBehind = this.writeBehind;
+        this.writeBehind = null;
+        if (writeBehind != null) writeBehind.shutdown();
     }
 
     /**
-     * Gets a Byte from the database.
+     * Return true if the write-behind mode is enabled.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @return true if mutations are queued
      */
-    public Byte getByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getByte(new String[]{column}, new Object[]{value}, search, 1);
+    public boolean isWriteBehind() {
+        return writeBehind != null;
     }
 
     /**
-     * Gets a Short from the database.
+     * Return the number of mutations waiting to be written by the write-behind mode.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
-     * @throws SQLException SQLException
+     * @return the number of queued mutations
      */
-    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+    public int getPendingWrites() {
+        WriteBehind writeBehind = this.writeBehind;
+        return writeBehind == null ? 0 : writeBehind.size();
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Short s = null;
-        if (result.getResult().absolute(row)) {
-            s = result.getResult().getShort(search);
-        }
-        result.close();
-        return s;
+    /**
+     * Writes every mutation queued by the write-behind mode and every increment merged by the delta coalescing mode.
+     *
+     * @throws SQLException on error when writing
+     */
+    public void flush() throws SQLException {
+        DeltaBuffer deltaBuffer = this.deltaBuffer;
+        if (deltaBuffer != null) deltaBuffer.flush();
+        WriteBehind writeBehind = this.writeBehind;
+        if (writeBehind != null) writeBehind.flush();
     }
 
     /**
-     * Gets a Short from the database.
+     * Enables the delta coalescing mode: the increments and decrements of the same columns with the same
+     * where values are summed in memory and written as a single UPDATE when the flush interval elapses.
+     * An increment rejected 3 times by the database is dropped and logged.
+     * Reads do not see the merged increments until they are flushed.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @param interval the maximum time an increment stays in memory
+     * @param unit     the unit of the interval
+     * @throws SQLException on error when flushing the previous increments
      */
-    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getShort(columns, values, search, 1);
+    public synchronized void enableDeltaCoalescing(long interval, @NotNull TimeUnit unit) throws SQLException {
+        disableDeltaCoalescing();
+        deltaBuffer = new DeltaBuffer(this, interval, unit);
     }
 
     /**
-     * Gets a Short from the database.
+     * Disables the delta coalescing mode, writing every merged increment.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
-     * @throws SQLException SQLException
+     * @throws SQLException on error when flushing the increments
      */
-    public Short getShort(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getShort(new String[]{column}, new Object[]{value}, search, row);
+    public synchronized void disableDeltaCoalescing() throws SQLException {
+        DeltaBuffer deltaBuffer = this.deltaBuffer;
+        this.deltaBuffer = null;
+        if (deltaBuffer != null) deltaBuffer.shutdown();
     }
 
     /**
-     * Gets a Short from the database.
+     * Return true if the delta coalescing mode is enabled.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @return true if increments are merged in memory
      */
-    public Short getShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getShort(new String[]{column}, new Object[]{value}, search, 1);
+    public boolean isDeltaCoalescing() {
+        return deltaBuffer != null;
     }
 
     /**
-     * Gets a Integer from the database.
+     * Return the number of lines with increments waiting to be written by the delta coalescing mode.
+     *
+     * @return the number of pending increments
+     */
+    public int getPendingDeltas() {
+        DeltaBuffer deltaBuffer = this.deltaBuffer;
+        return deltaBuffer == null ? 0 : deltaBuffer.size();
+    }
+
+    /**
+     * Return the fetch size used by the streaming queries.
+     *
+     * @return the fetch size, 0 for the driver default
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the fetch size used by the streaming queries.
+     * With MySQL use Integer.MIN_VALUE to stream row by row, or a positive value together with
+     * the useCursorFetch data source property to read the rows in chunks.
+     *
+     * @param fetchSize the fetch size, 0 for the driver default
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Terminates the connection with the database.
+     * Queued asynchronous operations and queued writes are completed before the connection is closed.
+     */
+    public void shutdown() {
+        if (async != null) {
+            async.shutdown(30, TimeUnit.SECONDS);
+            async = null;
+        }
+        try {
+            disableDeltaCoalescing();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        try {
+            disableWriteBehind();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+        setMessenger(null);
+        connector.shutdown();
+        metrics.shutdown();
+        monitored = true;
+        SQLMonitor.unregister(this);
+    }
+
+
+    /**
+     * Restart the connection with the database.
+     *
+     * @throws SQLException on error when shutdown or connecting
+     */
+    public void reset() throws SQLException {
+        connector.shutdown();
+        connector.connect().close();
+    }
+
+    /**
+     * Runs the given block in a transaction: the operations made in the block use a single connection
+     * and are committed together when it returns, or rolled back if it throws.
+     * If the database rolls the transaction back to resolve a deadlock, the block is run again up to
+     * the number of retries of this instance, so it should not have side effects outside the database.
+     * Calling transaction inside the block joins the running transaction.
+     *
+     * @param work the block of operations
+     * @throws SQLException the exception thrown by the block or by the commit
+     */
+    public void transaction(@NotNull Transaction.Work work) throws SQLException {
+        Transaction current = transactions.get();
+        if (current != null) {
+            work.run(current);
+            return;
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            Connection connection = connector.connect();
+            Transaction transaction = null;
+            boolean committed = false;
+            try {
+                connection.setAutoCommit(false);
+                transaction = new Transaction(this, connection);
+                transactions.set(transaction);
+                work.run(transaction);
+                transactions.remove();
+                transaction.commit();
+                committed = true;
+                return;
+            } catch (SQLException e) {
+                if (attempt >= transactionRetries || !Transaction.isDeadlock(e)) throw e;
+            } finally {
+                transactions.remove();
+                if (transaction != null) transaction.end();
+                // Restoring the auto-commit mode commits the pending work, so anything thrown by the block,
+                // an Error included, must roll it back first.
+                if (!committed) DBUtils.rollbackQuietly(connection);
+                DBUtils.autoCommitQuietly(connection);
+                DBUtils.closeQuietly(connection);
+            }
+
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(5, 20L << attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while retrying a transaction", e);
+            }
+        }
+    }
+
+    /**
+     * Sets the number of times a transaction is run again after being rolled back by a deadlock.
+     *
+     * @param transactionRetries the number of retries, 0 to never retry
+     */
+    public void setTransactionRetries(int transactionRetries) {
+        this.transactionRetries = transactionRetries;
+    }
+
+    public int getTransactionRetries() {
+        return transactionRetries;
+    }
+
+    /**
+     * Sets the maximum time a statement of this instance can run before it is cancelled by the driver
+     * and throws a SQLException, so a stalled database can't hold the connections of the pool forever.
+     * The drivers count the timeout in seconds, a shorter timeout is rounded up to one second.
+     *
+     * @param timeout the maximum execution time of a statement, 0 for no timeout
+     * @param unit    the unit of the timeout
+     */
+    public void setQueryTimeout(long timeout, @NotNull TimeUnit unit) {
+        this.queryTimeout = seconds(timeout, unit);
+    }
+
+    /**
+     * Return the maximum time a statement of this instance can run.
+     *
+     * @param unit the unit of the returned timeout
+     * @return the timeout, 0 if disabled
+     */
+    public long getQueryTimeout(@NotNull TimeUnit unit) {
+        return unit.convert(queryTimeout, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Runs the given operations with a different query timeout for the statements they execute on the current thread.
+     *
+     * @param timeout the maximum execution time of a statement, 0 for no timeout
+     * @param unit    the unit of the timeout
+     * @param task    the operations to run
+     * @param <T>     the type of the result
+     * @return the result of the operations
+     * @throws SQLException the exception thrown by the operations, a statement timed out if {@link #isTimeout(SQLException)}
+     */
+    public <T> T withQueryTimeout(long timeout, @NotNull TimeUnit unit, @NotNull AsyncSQL.SQLTask<T> task) throws SQLException {
+        return withQueryTimeout(seconds(timeout, unit), task);
+    }
+
+    /**
+     * Runs the given operations with a different query timeout for the statements they execute on the current thread.
+     *
+     * @param timeout the maximum execution time of a statement, 0 for no timeout
+     * @param unit    the unit of the timeout
+     * @param task    the operations to run
+     * @throws SQLException the exception thrown by the operations, a statement timed out if {@link #isTimeout(SQLException)}
+     */
+    public void withQueryTimeout(long timeout, @NotNull TimeUnit unit, @NotNull AsyncSQL.SQLRunnable task) throws SQLException {
+        withQueryTimeout(seconds(timeout, unit), () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Return true if the exception was thrown because a statement ran longer than the query timeout.
+     *
+     * @param e the exception
+     * @return true if a statement timed out
+     */
+    public static boolean isTimeout(@NotNull SQLException e) {
+        return QueryMetrics.isTimeout(e);
+    }
+
+    private <T> T withQueryTimeout(Integer seconds, AsyncSQL.SQLTask<T> task) throws SQLException {
+        Integer previous = callTimeout.get();
+        if (seconds == null) callTimeout.remove();
+        else callTimeout.set(seconds);
+        try {
+            return task.call();
+        } finally {
+            if (previous == null) callTimeout.remove();
+            else callTimeout.set(previous);
+        }
+    }
+
+    /**
+     * Return the query timeout of the current call in seconds, 0 for no timeout.
+     */
+    private int timeout() {
+        Integer timeout = callTimeout.get();
+        return timeout != null ? timeout : queryTimeout;
+    }
+
+    private static int seconds(long timeout, TimeUnit unit) {
+        if (timeout <= 0) return 0;
+        long millis = unit.toMillis(timeout);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, (millis + 999) / 1000));
+    }
+
+    private PreparedStatement prepare(Connection connection, String query) throws SQLException {
+        return configure(connection.prepareStatement(query));
+    }
+
+    /**
+     * Applies the query timeout of the current call to a statement and registers it to be cancelled
+     * with the asynchronous operation running it. The first statement registers this instance in the {@link SQLMonitor}.
+     */
+    private PreparedStatement configure(PreparedStatement statement) throws SQLException {
+        if (!monitored) {
+            monitored = true;
+            SQLMonitor.register(this);
+        }
+
+        try {
+            int seconds = timeout();
+            if (seconds > 0) statement.setQueryTimeout(seconds);
+            Cancellation cancellation = Cancellation.current();
+            if (cancellation != null) cancellation.register(statement);
+            return statement;
+        } catch (SQLException | RuntimeException e) {
+            DBUtils.closeQuietly(statement);
+            throw e;
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Transaction transaction = transactions.get();
+        return transaction != null ? transaction.connection() : connector.connect();
+    }
+
+    private Connection connectReadOnly() throws SQLException {
+        Transaction transaction = transactions.get();
+        return transaction != null ? transaction.connection() : connector.connectReadOnly();
+    }
+
+    private WriteBehind writeBehind() {
+        return transactions.get() == null ? writeBehind : null;
+    }
+
+    private DeltaBuffer deltaBuffer() {
+        return transactions.get() == null ? deltaBuffer : null;
+    }
+
+    /**
+     * Return the ping with the database.
+     *
+     * @return The ping in milliseconds with the database
+     */
+    public long ping() {
+        long start = System.currentTimeMillis();
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = connector.connectReadOnly();
+            statement = prepare(connection, "SELECT 1");
+            statement.execute();
+            return System.currentTimeMillis() - start;
+        } catch (SQLException ignored) {
+            return -1;
+        } finally {
+            DBUtils.closeQuietly(statement);
+            DBUtils.closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Executes a given MySQL query.
+     *
+     * @param query the query to be executed
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeQuery(@NotNull String query) throws SQLException {
+        return executeQuery(query, new Object[0]);
+    }
+
+    /**
+     * Executes a given parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeQuery(@NotNull String query, Object... parameters) throws SQLException {
+        if (query.trim().isEmpty())
+            throw new IllegalArgumentException("Query cannot be empty");
+
+        return query(query, parameters, true);
+    }
+
+    /**
+     * Executes a given parameterized MySQL query on a read connection of the connector, a replica if the connector
+     * has some. The replica can lag behind the primary, the query may not see the latest writes.
+     * Don't use it for locking reads or for queries depending on the session state.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeReadOnlyQuery(@NotNull String query, Object... parameters) throws SQLException {
+        if (query.trim().isEmpty())
+            throw new IllegalArgumentException("Query cannot be empty");
+
+        return query(query, parameters, false);
+    }
+
+    private CompositeResult query(String query, Object[] parameters, boolean primary) throws SQLException {
+        QueryMetrics.Execution execution = metrics.start(query);
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = primary ? connect() : connectReadOnly();
+            execution.acquired();
+            statement = prepare(connection, query);
+            DBUtils.setParameters(statement, parameters);
+            ResultSet result = statement.executeQuery();
+
+            return new CompositeResult(connection, statement, result, query, execution);
+        } catch (SQLException e) {
+            execution.fail(e);
+            DBUtils.closeQuietly(statement);
+            DBUtils.closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * Executes a given parameterized MySQL query with a forward-only, read-only cursor using the fetch size of this instance,
+     * so the rows are streamed from the database instead of being loaded in memory.
+     * The Connection stays busy until the CompositeResult is closed.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeStreamingQuery(@NotNull String query, Object... parameters) throws SQLException {
+        if (query.trim().isEmpty())
+            throw new IllegalArgumentException("Query cannot be empty");
+
+        return streamingQuery(query, parameters, true);
+    }
+
+    private CompositeResult streamingQuery(String query, Object[] parameters, boolean primary) throws SQLException {
+        QueryMetrics.Execution execution = metrics.start(query);
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = primary ? connect() : connectReadOnly();
+            execution.acquired();
+            statement = configure(connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY));
+            if (fetchSize != 0) statement.setFetchSize(fetchSize);
+            DBUtils.setParameters(statement, parameters);
+            ResultSet result = statement.executeQuery();
+
+            return new CompositeResult(connection, statement, result, query, execution);
+        } catch (SQLException e) {
+            execution.fail(e);
+            DBUtils.closeQuietly(statement);
+            DBUtils.closeQuietly(connection);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the rows matching the given values, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    public Stream<Row> stream(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        CompositeResult result = streamingQuery(statements.select(columns, values, projection), StatementCache.parameters(null, values), recentlyWritten(columns, values));
+        try {
+            String[] names = projection.length == 0 ? Row.columns(result.getResult()) : projection.clone();
+            return result.stream(composite -> Row.read(composite.getResult(), names));
+        } catch (SQLException e) {
+            result.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the rows matching the given value, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    public Stream<Row> stream(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return stream(new String[]{column}, new Object[]{value}, projection);
+    }
+
+    /**
+     * Calls the handler for each row matching the given values, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    public void forEach(@NotNull String[] columns, Object[] values, @NotNull CompositeResult.Handler handler, @NotNull String... projection) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        streamingQuery(statements.select(columns, values, projection), StatementCache.parameters(null, values), recentlyWritten(columns, values)).forEach(handler);
+    }
+
+    /**
+     * Calls the handler for each row matching the given value, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    public void forEach(@NotNull String column, Object value, @NotNull CompositeResult.Handler handler, @NotNull String... projection) throws SQLException {
+        forEach(new String[]{column}, new Object[]{value}, handler, projection);
+    }
+
+    /**
+     * Executes an update given a MySQL query.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query the query to be executed
+     * @throws SQLException SQLException
+     */
+    public void executeUpdate(@NotNull String query) throws SQLException {
+        executeUpdate(query, new Object[0]);
+    }
+
+    /**
+     * Executes an update given a parameterized MySQL query.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @throws SQLException SQLException
+     */
+    public void executeUpdate(@NotNull String query, Object... parameters) throws SQLException {
+        update(query, parameters);
+        written();
+    }
+
+    int update(@NotNull String query, Object[] parameters) throws SQLException {
+        if (query.trim().isEmpty())
+            throw new IllegalArgumentException("Query cannot be empty");
+
+        QueryMetrics.Execution execution = metrics.start(query);
+        Connection connection = null;
+        PreparedStatement statement = null;
+
+        try {
+            connection = connect();
+            execution.acquired();
+            statement = prepare(connection, query);
+            DBUtils.setParameters(statement, parameters);
+            int count = statement.executeUpdate();
+
+            execution.end(count);
+            return count;
+        } catch (SQLException e) {
+            execution.fail(e);
+            throw e;
+        } finally {
+            DBUtils.closeQuietly(statement);
+            DBUtils.closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Executes a parameterized MySQL query once for each set of parameters as a JDBC batch in a single transaction.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind for each execution
+     * @throws SQLException SQLException
+     */
+    public void executeBatch(@NotNull String query, @NotNull Collection<Object[]> parameters) throws SQLException {
+        batch(query, parameters);
+        written();
+    }
+
+    int[] batch(@NotNull String query, @NotNull Collection<Object[]> parameters) throws SQLException {
+        if (query.trim().isEmpty())
+            throw new IllegalArgumentException("Query cannot be empty");
+        if (parameters.isEmpty()) return new int[0];
+
+        QueryMetrics.Execution execution = metrics.start(query);
+        Connection connection = null;
+        PreparedStatement statement = null;
+        boolean autoCommit = true;
+
+        try {
+            connection = connect();
+            execution.acquired();
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            statement = prepare(connection, query);
+            for (Object[] values : parameters) {
+                DBUtils.setParameters(statement, values);
+                statement.addBatch();
+            }
+            int[] counts = statement.executeBatch();
+            connection.commit();
+
+            execution.end(rows(counts));
+            return counts;
+        } catch (SQLException e) {
+            execution.fail(e);
+            DBUtils.rollbackQuietly(connection);
+            throw e;
+        } finally {
+            if (autoCommit) DBUtils.autoCommitQuietly(connection);
+            DBUtils.closeQuietly(statement);
+            DBUtils.closeQuietly(connection);
+        }
+    }
+
+    private static long rows(int[] counts) {
+        long rows = 0;
+        for (int count : counts) {
+            if (count > 0) rows += count;
+        }
+        return rows;
+    }
+
+    /**
+     * Creates a new table if it is not present in the database.
+     *
+     * @param args    the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
+     * @param charset the default character set
+     * @throws SQLException SQLException
+     */
+    public void createTable(@NotNull String[] args, String charset) throws SQLException {
+        executeUpdate(getDialect().createTable(table, args, charset));
+    }
+
+    /**
+     * Creates a new table if it is not present in the database.
+     *
+     * @param args the list of columns with their type (ex. `id` INT NOT NULL AUTO_INCREMENT PRIMARY KEY)
+     * @throws SQLException SQLException
+     */
+    public void createTable(@NotNull String[] args) throws SQLException {
+        createTable(args, null);
+    }
+
+    /**
+     * Creates an index on the given columns if it is not present in the database.
+     *
+     * @param name    the name of the index
+     * @param unique  true to create a UNIQUE index
+     * @param columns the indexed columns
+     * @throws SQLException SQLException
+     */
+    public void createIndex(@NotNull String name, boolean unique, @NotNull String... columns) throws SQLException {
+        if (columns.length == 0)
+            throw new IllegalArgumentException("An index needs at least a column");
+
+        try {
+            executeUpdate(getDialect().createIndex(table, name, unique, columns));
+        } catch (SQLException e) {
+            if (!getDialect().isExistingIndex(e)) throw e;
+        }
+    }
+
+    /**
+     * Adds a new line to the table assigning the given values to the given columns.
+     *
+     * @param columns the list of columns to edit
+     * @param values  the list of values to be added to the columns
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        String query = statements.insert(columns);
+        WriteBehind writeBehind = writeBehind();
+        Object[] line = values.clone();
+        Runnable invalidation = () -> written(new String[0], columns, line);
+        if (writeBehind != null) {
+            writeBehind.add(query, line, null, invalidation);
+        } else {
+            update(query, line);
+            invalidation.run();
+        }
+    }
+
+    /**
+     * Adds a new line to the table assigning the given value to the given column.
+     *
+     * @param column the column to edit
+     * @param value  the value to be added to the column
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String column, Object value) throws SQLException {
+        addLine(new String[]{column}, new Object[]{value});
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are sent in batches of 500 with multi-row INSERT statements, in a single transaction.
+     *
+     * @param columns the list of columns to edit
+     * @param rows    the values of each line, in the order of the columns
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    public long addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows) throws SQLException {
+        return addLines(columns, rows, DEFAULT_BULK_SIZE, null);
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are read lazily from the iterable and sent in batches with multi-row INSERT statements,
+     * so the memory used does not depend on the number of lines. Every line is added in a single transaction:
+     * if one of them fails none is added. The lines are written immediately even in write-behind mode
+     * and the whole read cache is invalidated.
+     *
+     * @param columns   the list of columns to edit
+     * @param rows      the values of each line, in the order of the columns
+     * @param batchSize the number of lines sent to the database at once, rounded up to fill the last multi-row statement
+     * @param progress  called after each batch with the number of lines sent so far, may be null
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    public long addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows, int batchSize, LongConsumer progress) throws SQLException {
+        if (columns.length == 0)
+            throw new IllegalArgumentException("Columns cannot be empty");
+        if (batchSize < 1)
+            throw new IllegalArgumentException("Batch size must be at least 1");
+
+        int perStatement = Math.max(1, Math.min(batchSize, getDialect().getMaxParameters() / columns.length));
+        String multiQuery = statements.insert(columns, perStatement);
+        String singleQuery = statements.insert(columns);
+        Object[] buffer = new Object[perStatement * columns.length];
+        int buffered = 0;
+        int pending = 0;
+        long written = 0;
+
+        QueryMetrics.Execution execution = metrics.start(multiQuery);
+        Connection connection = null;
+        PreparedStatement multi = null;
+        PreparedStatement single = null;
+        boolean autoCommit = true;
+
+        try {
+            connection = connect();
+            execution.acquired();
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            multi = prepare(connection, multiQuery);
+
+            for (Object[] row : rows) {
+                if (row.length != columns.length)
+                    throw new IllegalArgumentException("Columns and values length must have the same value");
+
+                System.arraycopy(row, 0, buffer, buffered * columns.length, columns.length);
+                if (++buffered < perStatement) continue;
+
+                DBUtils.setParameters(multi, buffer);
+                multi.addBatch();
+                buffered = 0;
+                pending += perStatement;
+                if (pending >= batchSize) {
+                    multi.executeBatch();
+                    written += pending;
+                    pending = 0;
+                    if (progress != null) progress.accept(written);
+                }
+            }
+
+            if (pending > 0 || buffered > 0) {
+                if (pending > 0) multi.executeBatch();
+                if (buffered > 0) {
+                    single = prepare(connection, singleQuery);
+                    for (int row = 0; row < buffered; row++) {
+                        for (int i = 0; i < columns.length; i++) {
+                            DBUtils.setParameter(single, i + 1, buffer[row * columns.length + i]);
+                        }
+                        single.addBatch();
+                    }
+                    single.executeBatch();
+                }
+                written += pending + buffered;
+                if (progress != null) progress.accept(written);
+            }
+            connection.commit();
+
+            execution.end(written);
+        } catch (SQLException | RuntimeException e) {
+            execution.fail(e);
+            DBUtils.rollbackQuietly(connection);
+            throw e;
+        } finally {
+            if (autoCommit) DBUtils.autoCommitQuietly(connection);
+            DBUtils.closeQuietly(single);
+            DBUtils.closeQuietly(multi);
+            DBUtils.closeQuietly(connection);
+        }
+
+        if (written > 0) written();
+        return written;
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        String query = statements.delete(columns, values);
+        Object[] parameters = StatementCache.parameters(null, values);
+        WriteBehind writeBehind = writeBehind();
+        Object[] where = values.clone();
+        Runnable invalidation = () -> written(new String[0], columns, where);
+        if (writeBehind != null) {
+            writeBehind.add(query, parameters, Arrays.asList(parameters), invalidation);
+        } else {
+            update(query, parameters);
+            invalidation.run();
+        }
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String column, Object value) throws SQLException {
+        removeLine(new String[]{column}, new Object[]{value});
+    }
+
+    /**
+     * Checks if a line exists with the given values in the given columns.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String[] columns, Object[] values) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.exists(columns, values), StatementCache.parameters(null, values), Boolean.class, columns, values,
+                result -> result.next());
+    }
+
+    /**
+     * Checks if a line exists with the given value in the given column.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String column, Object value) throws SQLException {
+        return lineExists(new String[]{column}, new Object[]{value});
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Byte.class, columns, values, result -> {
+            Byte b = null;
+            if (result.next()) {
+                b = result.getResult().getByte(search);
+            }
+            return b;
+        });
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getByte(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getByte(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getByte(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Short.class, columns, values, result -> {
+            Short s = null;
+            if (result.next()) {
+                s = result.getResult().getShort(search);
+            }
+            return s;
+        });
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getShort(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getShort(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getShort(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Integer.class, columns, values, result -> {
+            Integer i = null;
+            if (result.next()) {
+                i = result.getResult().getInt(search);
+            }
+            return i;
+        });
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getInteger(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getInteger(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getInteger(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Long.class, columns, values, result -> {
+            Long l = null;
+            if (result.next()) {
+                l = result.getResult().getLong(search);
+            }
+            return l;
+        });
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLong(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getLong(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLong(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Float.class, columns, values, result -> {
+            Float f = null;
+            if (result.next()) {
+                f = result.getResult().getFloat(search);
+            }
+            return f;
+        });
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getFloat(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getFloat(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getFloat(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Double.class, columns, values, result -> {
+            Double d = null;
+            if (result.next()) {
+                d = result.getResult().getDouble(search);
+            }
+            return d;
+        });
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getDouble(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getDouble(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getDouble(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), String.class, columns, values, result -> {
+            String s = null;
+            if (result.next()) {
+                s = result.getResult().getString(search);
+            }
+            return s;
+        });
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getString(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getString(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getString(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Boolean.class, columns, values, result -> {
+            Boolean b = null;
+            if (result.next()) {
+                b = result.getResult().getBoolean(search);
+            }
+            return b;
+        });
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getBoolean(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getBoolean(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getBoolean(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Timestamp.class, columns, values, result -> {
+            Timestamp t = null;
+            if (result.next()) {
+                t = result.getResult().getTimestamp(search);
+            }
+            return t;
+        });
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getTimestamp(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getTimestamp(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getTimestamp(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Date.class, columns, values, result -> {
+            Date d = null;
+            if (result.next()) {
+                d = result.getResult().getDate(search);
+            }
+            return d;
+        });
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getDate(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getDate(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getDate(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Time from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
@@ -454,53 +2008,94 @@ class SQLImplementation implements SQL {
      * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
         if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Time.class, columns, values, result -> {
+            Time t = null;
+            if (result.next()) {
+                t = result.getResult().getTime(search);
+            }
+            return t;
+        });
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Integer i = null;
-        if (result.getResult().absolute(row)) {
-            i = result.getResult().getInt(search);
-        }
-        result.close();
-        return i;
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getTime(columns, values, search, 1);
     }
 
     /**
-     * Gets a Integer from the database.
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getTime(new String[]{column}, new Object[]{value}, search, row);
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getTime(new String[]{column}, new Object[]{value}, search, 1);
+    }
+
+    /**
+     * Gets a Object from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getInteger(columns, values, search, 1);
+    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
+
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), Object.class, columns, values, result -> {
+            Object o = null;
+            if (result.next()) {
+                o = result.getResult().getObject(search);
+            }
+            return o;
+        });
     }
 
     /**
-     * Gets a Integer from the database.
+     * Gets a Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getObject(columns, values, search, 1);
+    }
+
+    /**
+     * Gets a Object from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
@@ -508,1288 +2103,1699 @@ class SQLImplementation implements SQL {
      * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Integer getInteger(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getInteger(new String[]{column}, new Object[]{value}, search, row);
+    public Object getObject(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return getObject(new String[]{column}, new Object[]{value}, search, row);
     }
 
     /**
-     * Gets a Integer from the database.
+     * Gets a Object from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public Integer getInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getInteger(new String[]{column}, new Object[]{value}, search, 1);
+    public Object getObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getObject(new String[]{column}, new Object[]{value}, search, 1);
     }
 
     /**
-     * Gets a Long from the database.
+     * Gets a T object from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
      * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
         if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+        return read(statements.selectRow(columns, values, search), StatementCache.parameters(null, values, row - 1), type, columns, values, result -> {
+            T t = null;
+            if (result.next()) {
+                try {
+                    t = type.cast(result.getResult().getObject(search));
+                } catch (ClassCastException e) {
+                    throw new SQLException(e);
+                }
+            }
+            return t;
+        });
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Long l = null;
-        if (result.getResult().absolute(row)) {
-            l = result.getResult().getLong(search);
-        }
-        result.close();
-        return l;
+    /**
+     * Gets a T object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return getObject(columns, values, search, type, 1);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
+        return getObject(new String[]{column}, new Object[]{value}, search, type, row);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return getObject(new String[]{column}, new Object[]{value}, search, type, 1);
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, search), StatementCache.parameters(null, values), Arrays.asList(List.class, type), columns, values, result -> {
+            List<T> list = new ArrayList<>();
+            while (result.next()) {
+                list.add(type.cast(result.getResult().getObject(search)));
+            }
+            return list;
+        });
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return getList(new String[]{column}, new Object[]{value}, search, type);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, search), StatementCache.parameters(null, values), int[].class, columns, values, result -> {
+            int[] array = new int[16];
+            int size = 0;
+            while (result.next()) {
+                ResultSet set = result.getResult();
+                int value = set.getInt(1);
+                if (set.wasNull()) continue;
+                if (size == array.length) array = Arrays.copyOf(array, size << 1);
+                array[size++] = value;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        });
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getIntArray(new String[]{column}, new Object[]{value}, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, search), StatementCache.parameters(null, values), long[].class, columns, values, result -> {
+            long[] array = new long[16];
+            int size = 0;
+            while (result.next()) {
+                ResultSet set = result.getResult();
+                long value = set.getLong(1);
+                if (set.wasNull()) continue;
+                if (size == array.length) array = Arrays.copyOf(array, size << 1);
+                array[size++] = value;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        });
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLongArray(new String[]{column}, new Object[]{value}, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, search), StatementCache.parameters(null, values), double[].class, columns, values, result -> {
+            double[] array = new double[16];
+            int size = 0;
+            while (result.next()) {
+                ResultSet set = result.getResult();
+                double value = set.getDouble(1);
+                if (set.wasNull()) continue;
+                if (size == array.length) array = Arrays.copyOf(array, size << 1);
+                array[size++] = value;
+            }
+            return size == array.length ? array : Arrays.copyOf(array, size);
+        });
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getDoubleArray(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Long from the database.
+     * Gets the last Byte from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @throws SQLException SQLException | ClassCastException
      */
-    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getLong(columns, values, search, 1);
+    public Byte getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Byte.class);
     }
 
     /**
-     * Gets a Long from the database.
+     * Gets the last Byte from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Long getLong(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getLong(new String[]{column}, new Object[]{value}, search, row);
+    public Byte getLastByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastByte(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Long from the database.
+     * Gets the last Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Short getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Short.class);
+    }
+
+    /**
+     * Gets the last Short from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public Long getLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLong(new String[]{column}, new Object[]{value}, search, 1);
+    public Short getLastShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastShort(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Float from the database.
+     * Gets the last Integer from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+    public Integer getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Integer.class);
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Float f = null;
-        if (result.getResult().absolute(row)) {
-            f = result.getResult().getFloat(search);
-        }
-        result.close();
-        return f;
+    /**
+     * Gets the last Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getLastInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastInteger(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Float from the database.
+     * Gets the last Long from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getFloat(columns, values, search, 1);
+    public Long getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Long.class);
     }
 
     /**
-     * Gets a Float from the database.
+     * Gets the last Long from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Float getFloat(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getFloat(new String[]{column}, new Object[]{value}, search, row);
+    public Long getLastLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastLong(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Float from the database.
+     * Gets the last Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Float.class);
+    }
+
+    /**
+     * Gets the last Float from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public Float getFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getFloat(new String[]{column}, new Object[]{value}, search, 1);
+    public Float getLastFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastFloat(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Double from the database.
+     * Gets the last Double from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+    public Double getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Double.class);
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Double d = null;
-        if (result.getResult().absolute(row)) {
-            d = result.getResult().getDouble(search);
-        }
-        result.close();
-        return d;
+    /**
+     * Gets the last Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getLastDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastDouble(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Double from the database.
+     * Gets the last String from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getDouble(columns, values, search, 1);
+    public String getLastString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, String.class);
     }
 
     /**
-     * Gets a Double from the database.
+     * Gets the last String from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Double getDouble(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getDouble(new String[]{column}, new Object[]{value}, search, row);
+    public String getLastString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastString(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Double from the database.
+     * Gets the last Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     * @return Boolean
+     */
+    public Boolean getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Boolean.class);
+    }
+
+    /**
+     * Gets the last Boolean from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
      * @throws SQLException SQLException
+     * @return Boolean
      */
-    public Double getDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getDouble(new String[]{column}, new Object[]{value}, search, 1);
+    public Boolean getLastBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastBoolean(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a String from the database.
+     * Gets the last Timestamp from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
-        if (columns.length != values.length)
-            throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+    public Timestamp getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Timestamp.class);
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        String s = null;
-        if (result.getResult().absolute(row)) {
-            s = result.getResult().getString(search);
-        }
-        result.close();
-        return s;
+    /**
+     * Gets the last Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getLastTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastTimestamp(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a String from the database.
+     * Gets the last Date from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * @throws SQLException SQLException | ClassCastException
      */
-    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getString(columns, values, search, 1);
+    public Date getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Date.class);
     }
 
     /**
-     * Gets a String from the database.
+     * Gets the last Date from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public String getString(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getString(new String[]{column}, new Object[]{value}, search, row);
+    public Date getLastDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastDate(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a String from the database.
+     * Gets the last Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Time getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return getLastObject(columns, values, search, Time.class);
+    }
+
+    /**
+     * Gets the last Time from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
      * @throws SQLException SQLException
      */
-    public String getString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getString(new String[]{column}, new Object[]{value}, search, 1);
+    public Time getLastTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastTime(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Boolean from the database.
+     * Gets the last Object from the database.
+     * The rows are read in the order returned by the database and only the last value is kept,
+     * use the overload with an ordering column to read a single row.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
      * @throws SQLException SQLException
      */
-    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Object getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
+        return read(statements.select(columns, values, search), StatementCache.parameters(null, values), Object.class, columns, values, result -> {
+            Object o = null;
+            while (result.next()) {
+                o = result.getObject(search);
+            }
+            return o;
+        });
+    }
 
-        CompositeResult result = executeQuery(query.toString());
-        Boolean b = null;
-        if (result.getResult().absolute(row)) {
-            b = result.getResult().getBoolean(search);
-        }
-        result.close();
-        return b;
+    /**
+     * Gets the last Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getLastObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return getLastObject(new String[]{column}, new Object[]{value}, search);
     }
 
     /**
-     * Gets a Boolean from the database.
+     * Gets the last T object from the database.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
      * @throws SQLException SQLException
      */
-    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getBoolean(columns, values, search, 1);
+    public <T> T getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return type.cast(getLastObject(columns, values, search));
     }
 
     /**
-     * Gets a Boolean from the database.
+     * Gets the last T object from the database.
      *
      * @param column the column for the research
      * @param value  the value to be searched in the column
      * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param type   the type of the object you want to get
      * @throws SQLException SQLException
      */
-    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getBoolean(new String[]{column}, new Object[]{value}, search, row);
+    public <T> T getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return getLastObject(new String[]{column}, new Object[]{value}, search, type);
     }
 
     /**
-     * Gets a Boolean from the database.
+     * Gets the last Byte from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getBoolean(new String[]{column}, new Object[]{value}, search, 1);
+    public Byte getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Byte.class, columns, values, result -> {
+            Byte b = null;
+            if (result.next()) {
+                b = result.getResult().getByte(search);
+            }
+            return b;
+        });
     }
 
     /**
-     * Gets a Timestamp from the database.
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Byte getLastByte(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastByte(new String[]{column}, new Object[]{value}, search, orderBy);
+    }
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Short getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
 
-        CompositeResult result = executeQuery(query.toString());
-        Timestamp t = null;
-        if (result.getResult().absolute(row)) {
-            t = result.getResult().getTimestamp(search);
-        }
-        result.close();
-        return t;
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Short.class, columns, values, result -> {
+            Short s = null;
+            if (result.next()) {
+                s = result.getResult().getShort(search);
+            }
+            return s;
+        });
     }
 
     /**
-     * Gets a Timestamp from the database.
+     * Gets the last Short from the database, ordering the rows by the given column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
      * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getTimestamp(columns, values, search, 1);
+    public Short getLastShort(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastShort(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Timestamp from the database.
+     * Gets the last Integer from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getTimestamp(new String[]{column}, new Object[]{value}, search, row);
+    public Integer getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Integer.class, columns, values, result -> {
+            Integer i = null;
+            if (result.next()) {
+                i = result.getResult().getInt(search);
+            }
+            return i;
+        });
     }
 
     /**
-     * Gets a Timestamp from the database.
+     * Gets the last Integer from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getTimestamp(new String[]{column}, new Object[]{value}, search, 1);
+    public Integer getLastInteger(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastInteger(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Date from the database.
+     * Gets the last Long from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Long getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
-
-        CompositeResult result = executeQuery(query.toString());
-        Date d = null;
-        if (result.getResult().absolute(row)) {
-            d = result.getResult().getDate(search);
-        }
-        result.close();
-        return d;
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Long.class, columns, values, result -> {
+            Long l = null;
+            if (result.next()) {
+                l = result.getResult().getLong(search);
+            }
+            return l;
+        });
     }
 
     /**
-     * Gets a Date from the database.
+     * Gets the last Long from the database, ordering the rows by the given column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
      * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getDate(columns, values, search, 1);
+    public Long getLastLong(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastLong(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Date from the database.
+     * Gets the last Float from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Date getDate(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getDate(new String[]{column}, new Object[]{value}, search, row);
+    public Float getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Float.class, columns, values, result -> {
+            Float f = null;
+            if (result.next()) {
+                f = result.getResult().getFloat(search);
+            }
+            return f;
+        });
     }
 
     /**
-     * Gets a Date from the database.
+     * Gets the last Float from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Date getDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getDate(new String[]{column}, new Object[]{value}, search, 1);
+    public Float getLastFloat(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastFloat(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Time from the database.
+     * Gets the last Double from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Double getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
 
-        CompositeResult result = executeQuery(query.toString());
-        Time t = null;
-        if (result.getResult().absolute(row)) {
-            t = result.getResult().getTime(search);
-        }
-        result.close();
-        return t;
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Double.class, columns, values, result -> {
+            Double d = null;
+            if (result.next()) {
+                d = result.getResult().getDouble(search);
+            }
+            return d;
+        });
     }
 
     /**
-     * Gets a Time from the database.
+     * Gets the last Double from the database, ordering the rows by the given column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
      * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getTime(columns, values, search, 1);
+    public Double getLastDouble(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastDouble(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Time from the database.
+     * Gets the last String from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Time getTime(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getTime(new String[]{column}, new Object[]{value}, search, row);
+    public String getLastString(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), String.class, columns, values, result -> {
+            String s = null;
+            if (result.next()) {
+                s = result.getResult().getString(search);
+            }
+            return s;
+        });
     }
 
     /**
-     * Gets a Time from the database.
+     * Gets the last String from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Time getTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getTime(new String[]{column}, new Object[]{value}, search, 1);
+    public String getLastString(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastString(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Object from the database.
+     * Gets the last Boolean from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+    public Boolean getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
 
-        CompositeResult result = executeQuery(query.toString());
-        Object o = null;
-        if (result.getResult().absolute(row)) {
-            o = result.getResult().getObject(search);
-        }
-        result.close();
-        return o;
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Boolean.class, columns, values, result -> {
+            Boolean b = null;
+            if (result.next()) {
+                b = result.getResult().getBoolean(search);
+            }
+            return b;
+        });
     }
 
     /**
-     * Gets a Object from the database.
+     * Gets the last Boolean from the database, ordering the rows by the given column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
      * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        return getObject(columns, values, search, 1);
+    public Boolean getLastBoolean(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastBoolean(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a Object from the database.
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Object getObject(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
-        return getObject(new String[]{column}, new Object[]{value}, search, row);
+    public Timestamp getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Timestamp.class, columns, values, result -> {
+            Timestamp t = null;
+            if (result.next()) {
+                t = result.getResult().getTimestamp(search);
+            }
+            return t;
+        });
     }
 
     /**
-     * Gets a Object from the database.
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Object getObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getObject(new String[]{column}, new Object[]{value}, search, 1);
+    public Timestamp getLastTimestamp(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastTimestamp(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a T object from the database.
+     * Gets the last Date from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param type    the type of the object you want to get
-     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
+    public Date getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
-        if (row < 1) throw new IllegalArgumentException("Rows values starts from 1");
-
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
 
-        CompositeResult result = executeQuery(query.toString());
-        T t = null;
-        if (result.getResult().absolute(row)) {
-            try {
-                t = type.cast(result.getResult().getObject(search));
-            } catch (ClassCastException e) {
-                throw new SQLException(e);
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Date.class, columns, values, result -> {
+            Date d = null;
+            if (result.next()) {
+                d = result.getResult().getDate(search);
             }
-        }
-        result.close();
-        return t;
+            return d;
+        });
     }
 
     /**
-     * Gets a T object from the database.
+     * Gets the last Date from the database, ordering the rows by the given column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
      * @param search  the name of the column whose value is wanted
-     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
-        return getObject(columns, values, search, type, 1);
+    public Date getLastDate(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastDate(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a T object from the database.
+     * Gets the last Time from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param type   the type of the object you want to get
-     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
-        return getObject(new String[]{column}, new Object[]{value}, search, type, row);
+    public Time getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Time.class, columns, values, result -> {
+            Time t = null;
+            if (result.next()) {
+                t = result.getResult().getTime(search);
+            }
+            return t;
+        });
     }
 
     /**
-     * Gets a T object from the database.
+     * Gets the last Time from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param type   the type of the object you want to get
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
-        return getObject(new String[]{column}, new Object[]{value}, search, type, 1);
+    public Time getLastTime(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastTime(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets a ArrayList of Object from the database.
+     * Gets the last Object from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @param type    the type of the ArrayList
-     * @throws SQLException SQLException | ClassCastException
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
      */
-    public <T> List<T> getList(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+    public Object getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
         if (columns.length != values.length)
             throw new IllegalArgumentException("Columns and values length must have the same value");
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT * FROM `")
-                .append(table)
-                .append("` WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            if (values[i] == null) query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" IS NULL");
-            else query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
-        }
-        query.append(");");
-
-        CompositeResult result = executeQuery(query.toString());
-        List<T> list = new ArrayList<>();
-        while (result.getResult().next()) {
-            list.add(type.cast(result.getResult().getObject(search)));
-        }
-        result.close();
-        return list;
+        return read(statements.selectLast(columns, values, orderBy, search), StatementCache.parameters(null, values), Object.class, columns, values, result -> {
+            Object o = null;
+            if (result.next()) {
+                o = result.getResult().getObject(search);
+            }
+            return o;
+        });
     }
 
     /**
-     * Gets a ArrayList of Object from the database.
+     * Gets the last Object from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param type   the type of the ArrayList
-     * @throws SQLException SQLException | ClassCastException
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
      */
-    public <T> List<T> getList(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
-        return getList(new String[]{column}, new Object[]{value}, search, type);
+    public Object getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return getLastObject(new String[]{column}, new Object[]{value}, search, orderBy);
     }
 
     /**
-     * Gets the last Byte from the database.
+     * Gets the last T object from the database, ordering the rows by the given column.
      *
      * @param columns the list of columns for the research
      * @param values  the list of values to be searched in the columns
      * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException | ClassCastException
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
      */
-    public Byte getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Byte> list = getList(columns, values, search, Byte.class);
-        return list.get(list.size() - 1);
+    public <T> T getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) throws SQLException {
+        try {
+            return type.cast(getLastObject(columns, values, search, orderBy));
+        } catch (ClassCastException e) {
+            throw new SQLException(e);
+        }
     }
 
     /**
-     * Gets the last Byte from the database.
+     * Gets the last T object from the database, ordering the rows by the given column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
      * @throws SQLException SQLException
      */
-    public Byte getLastByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastByte(new String[]{column}, new Object[]{value}, search);
+    public <T> T getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) throws SQLException {
+        return getLastObject(new String[]{column}, new Object[]{value}, search, type, orderBy);
     }
 
     /**
-     * Gets the last Short from the database.
+     * Gets the first row matching the given values, reading only the given columns.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException | ClassCastException
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
      */
-    public Short getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Short> list = getList(columns, values, search, Short.class);
-        return list.get(list.size() - 1);
+    public Row getRow(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, projection), StatementCache.parameters(null, values), Row.class, columns, values, result -> {
+            if (!result.next()) return null;
+            return Row.read(result.getResult(), projection.length == 0 ? Row.columns(result.getResult()) : projection.clone());
+        });
     }
 
     /**
-     * Gets the last Short from the database.
+     * Gets the first row matching the given value, reading only the given columns.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
      * @throws SQLException SQLException
      */
-    public Short getLastShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastShort(new String[]{column}, new Object[]{value}, search);
+    public Row getRow(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return getRow(new String[]{column}, new Object[]{value}, projection);
     }
 
     /**
-     * Gets the last Integer from the database.
+     * Gets every row matching the given values, reading only the given columns.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
      * @throws SQLException SQLException
      */
-    public Integer getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Integer> list = getList(columns, values, search, Integer.class);
-        return list.get(list.size() - 1);
+    public List<Row> getRows(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        return read(statements.select(columns, values, projection), StatementCache.parameters(null, values), Arrays.asList(List.class, Row.class), columns, values, result -> {
+            String[] names = projection.length == 0 ? Row.columns(result.getResult()) : projection.clone();
+            List<Row> rows = new ArrayList<>();
+            while (result.next()) {
+                rows.add(Row.read(result.getResult(), names));
+            }
+            return rows;
+        });
     }
 
     /**
-     * Gets the last Integer from the database.
+     * Gets every row matching the given value, reading only the given columns.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
      * @throws SQLException SQLException
      */
-    public Integer getLastInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastInteger(new String[]{column}, new Object[]{value}, search);
+    public List<Row> getRows(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return getRows(new String[]{column}, new Object[]{value}, projection);
+    }
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination: the rows are ordered by the given
+     * columns and the page starts after the given key, so no row before it is scanned.
+     * The ordering columns should not contain NULL and together they should be unique
+     * (ex. the score followed by the primary key), otherwise rows with the same key can be skipped.
+     *
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @param orderColumns the columns used to order the rows, an index starting with them makes every page cheap
+     * @param descending   true to order the rows from the greatest
+     * @param afterKey     the values of the ordering columns after which the page starts,
+     *                     the {@link Page#getNextKey()} of the previous page or null for the first page
+     * @param limit        the maximum number of rows of the page
+     * @param projection   the names of the columns whose values are wanted, all the columns if empty.
+     *                     The ordering columns are read even if they are not in the projection
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    public Page page(@NotNull String[] columns, Object[] values, @NotNull String[] orderColumns, boolean descending,
+                     Object[] afterKey, int limit, @NotNull String... projection) throws SQLException {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (orderColumns.length == 0)
+            throw new IllegalArgumentException("Order columns cannot be empty");
+        if (afterKey != null && afterKey.length != orderColumns.length)
+            throw new IllegalArgumentException("The key must have a value for each order column");
+        if (limit < 1)
+            throw new IllegalArgumentException("Limit must be at least 1");
+
+        String[] names = projection;
+        if (names.length > 0) {
+            for (String orderColumn : orderColumns) {
+                if (indexOf(names, orderColumn) == -1) names = StatementCache.concat(names, new String[]{orderColumn});
+            }
+        }
+        String[] selected = names;
+
+        List<Object> trailing = new ArrayList<>();
+        if (afterKey != null) {
+            for (int i = 0; i < orderColumns.length; i++) {
+                trailing.addAll(Arrays.asList(afterKey).subList(0, i + 1));
+            }
+        }
+        trailing.add(limit + 1);
+
+        String query = statements.selectPage(columns, values, orderColumns, descending, afterKey != null, selected);
+        return read(query, StatementCache.parameters(null, values, trailing.toArray()), Page.class, columns, values, result -> {
+            String[] labels = selected.length == 0 ? Row.columns(result.getResult()) : selected.clone();
+            int[] keyIndexes = new int[orderColumns.length];
+            for (int i = 0; i < orderColumns.length; i++) {
+                keyIndexes[i] = indexOf(labels, orderColumns[i]);
+                if (keyIndexes[i] == -1) throw new SQLException("The column " + orderColumns[i] + " is not in the result");
+            }
+
+            List<Row> rows = new ArrayList<>(Math.min(limit, 1024));
+            boolean more = false;
+            while (result.next()) {
+                if (rows.size() == limit) {
+                    more = true;
+                    break;
+                }
+                rows.add(Row.read(result.getResult(), labels));
+            }
+
+            Object[] nextKey = null;
+            if (more) {
+                Row last = rows.get(rows.size() - 1);
+                nextKey = new Object[keyIndexes.length];
+                for (int i = 0; i < keyIndexes.length; i++) {
+                    nextKey[i] = last.getObject(keyIndexes[i]);
+                }
+            }
+            return new Page(rows, nextKey);
+        });
     }
 
     /**
-     * Gets the last Long from the database.
+     * Gets a page of the rows matching the given values with keyset pagination, ordered by a unique column.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param columns     the list of columns for the research
+     * @param values      the list of values to be searched in the columns
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
      * @throws SQLException SQLException
      */
-    public Long getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Long> list = getList(columns, values, search, Long.class);
-        return list.get(list.size() - 1);
+    public Page page(@NotNull String[] columns, Object[] values, @NotNull String orderColumn, Object[] afterKey,
+                     int limit, @NotNull String... projection) throws SQLException {
+        return page(columns, values, new String[]{orderColumn}, false, afterKey, limit, projection);
     }
 
     /**
-     * Gets the last Long from the database.
+     * Gets a page of the rows matching the given value with keyset pagination, ordered by a unique column.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param column      the column for the research
+     * @param value       the value to be searched in the column
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
      * @throws SQLException SQLException
      */
-    public Long getLastLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastLong(new String[]{column}, new Object[]{value}, search);
+    public Page page(@NotNull String column, Object value, @NotNull String orderColumn, Object[] afterKey,
+                     int limit, @NotNull String... projection) throws SQLException {
+        return page(new String[]{column}, new Object[]{value}, new String[]{orderColumn}, false, afterKey, limit, projection);
     }
 
     /**
-     * Gets the last Float from the database.
+     * Gets the rows whose key column has one of the given values, with one query for every 500 keys.
+     * The queries run concurrently on the executor of this instance, except inside a transaction or when
+     * called by the executor itself. The read cache is not used.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param keyColumn  the key column, it should be unique
+     * @param keys       the values of the key column, null values are ignored
+     * @param projection the names of the columns whose values are wanted, all the columns if empty.
+     *                   The key column is read even if it is not in the projection
+     * @param <K>        the type of the keys
+     * @return the Row of every key found, the keys without a line are missing
      * @throws SQLException SQLException
      */
-    public Float getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Float> list = getList(columns, values, search, Float.class);
-        return list.get(list.size() - 1);
+    public <K> Map<K, Row> getMany(@NotNull String keyColumn, @NotNull Collection<K> keys, @NotNull String... projection) throws SQLException {
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.remove(null);
+        if (distinct.isEmpty()) return new HashMap<>();
+
+        String[] names = projection;
+        if (names.length > 0 && indexOf(names, keyColumn) == -1) {
+            names = StatementCache.concat(new String[]{keyColumn}, projection);
+        }
+
+        int chunkSize = Math.max(1, Math.min(IN_SIZE, getDialect().getMaxParameters()));
+        List<List<K>> chunks = new ArrayList<>();
+        for (int i = 0; i < distinct.size(); i += chunkSize) {
+            chunks.add(distinct.subList(i, Math.min(distinct.size(), i + chunkSize)));
+        }
+
+        Map<K, Row> rows = new HashMap<>();
+        boolean concurrent = chunks.size() > 1 && transactions.get() == null && !async().isWorker();
+        List<CompletableFuture<Map<K, Row>>> futures = new ArrayList<>();
+        Integer timeout = callTimeout.get();
+        for (int i = 1; concurrent && i < chunks.size(); i++) {
+            List<K> chunk = chunks.get(i);
+            String[] columns = names;
+            futures.add(async().supply(() -> withQueryTimeout(timeout, () -> getChunk(keyColumn, chunk, chunkSize, columns))));
+        }
+
+        rows.putAll(getChunk(keyColumn, chunks.get(0), chunkSize, names));
+        for (int i = 1; i < chunks.size(); i++) {
+            if (!concurrent) {
+                rows.putAll(getChunk(keyColumn, chunks.get(i), chunkSize, names));
+                continue;
+            }
+            try {
+                rows.putAll(futures.get(i - 1).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException) throw (SQLException) e.getCause();
+                if (!(e.getCause() instanceof RejectedExecutionException)) throw new SQLException(e.getCause());
+                rows.putAll(getChunk(keyColumn, chunks.get(i), chunkSize, names));
+            }
+        }
+        return rows;
     }
 
     /**
-     * Gets the last Float from the database.
-     *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * Reads the rows of a chunk of keys. The IN list is padded to a power of two by repeating the last key,
+     * so a few statement shapes serve every chunk size.
      */
-    public Float getLastFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastFloat(new String[]{column}, new Object[]{value}, search);
+    private <K> Map<K, Row> getChunk(String keyColumn, List<K> keys, int chunkSize, String[] projection) throws SQLException {
+        int size = 1;
+        while (size < keys.size()) size <<= 1;
+        size = Math.min(size, chunkSize);
+
+        Object[] parameters = new Object[size];
+        for (int i = 0; i < size; i++) {
+            parameters[i] = keys.get(Math.min(i, keys.size() - 1));
+        }
+
+        boolean primary = false;
+        RecentWrites recentWrites = this.recentWrites;
+        for (int i = 0; recentWrites != null && !primary && i < keys.size(); i++) {
+            primary = recentWrites.touches(new String[]{keyColumn}, new Object[]{keys.get(i)});
+        }
+
+        Map<String, K> exact = new HashMap<>();
+        Map<String, K> folded = new HashMap<>();
+        for (K key : keys) {
+            String value = normalize(key);
+            exact.put(value, key);
+            folded.putIfAbsent(value.toLowerCase(Locale.ROOT), key);
+        }
+
+        Map<K, Row> rows = new HashMap<>();
+        CompositeResult result = query(statements.selectIn(keyColumn, size, projection), parameters, primary);
+        try {
+            String[] names = projection.length == 0 ? Row.columns(result.getResult()) : projection.clone();
+            int keyIndex = indexOf(names, keyColumn);
+            if (keyIndex == -1) throw new SQLException("The column " + keyColumn + " is not in the result");
+
+            while (result.next()) {
+                Row row = Row.read(result.getResult(), names);
+                if (row.isNull(keyIndex)) continue;
+                String value = normalize(row.getObject(keyIndex));
+                K key = exact.get(value);
+                if (key == null) key = folded.get(value.toLowerCase(Locale.ROOT));
+                if (key != null) rows.putIfAbsent(key, row);
+            }
+        } finally {
+            result.close();
+        }
+        return rows;
+    }
+
+    private static int indexOf(String[] columns, String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(column)) return i;
+        }
+        return -1;
     }
 
     /**
-     * Gets the last Double from the database.
-     *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException
+     * Return the text a key is compared by, so a key bound as a parameter matches the value read back
+     * even if the driver returns another type (ex. a Long for an Integer, a String for a UUID).
      */
-    public Double getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Double> list = getList(columns, values, search, Double.class);
-        return list.get(list.size() - 1);
+    static String normalize(Object value) {
+        if (value instanceof Boolean) return (Boolean) value ? "1" : "0";
+        if (value instanceof Enum) return ((Enum<?>) value).name();
+        if (value instanceof Number) {
+            try {
+                return new BigDecimal(value.toString()).stripTrailingZeros().toPlainString();
+            } catch (NumberFormatException e) {
+                return value.toString();
+            }
+        }
+
+        String text = value.toString();
+        int end = text.length();
+        while (end > 0 && text.charAt(end - 1) == ' ') end--;
+        return text.substring(0, end);
     }
 
     /**
-     * Gets the last Double from the database.
+     * Loads the entity whose key column has the given value.
+     * The fields of the class annotated with {@link Exposed} are read with a single query.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param type the class of the entity, it must have a constructor without parameters
+     *             and a field annotated with {@code @Exposed(key = true)}
+     * @param key  the value of the key column
+     * @param <T>  the type of the entity
+     * @return the entity, or null if no line has the given key
      * @throws SQLException SQLException
      */
-    public Double getLastDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastDouble(new String[]{column}, new Object[]{value}, search);
+    public <T> T load(@NotNull Class<T> type, @NotNull Object key) throws SQLException {
+        EntityMapping<T> mapping = EntityMapping.of(type);
+        String[] columns = {mapping.getKeyColumn()};
+        Object[] values = {key};
+
+        Row row = read(statements.selectRow(columns, values, mapping.getColumns()), StatementCache.parameters(null, values, 0), Row.class, columns, values, result -> {
+            if (!result.next()) return null;
+            return Row.read(result.getResult(), mapping.getColumns());
+        });
+        return row == null ? null : mapping.read(row);
     }
 
     /**
-     * Gets the last String from the database.
+     * Saves an entity with a single upsert: the line with its key is updated, or added if it does not exist.
+     * The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     * Read-only fields are never written and the entity is written immediately even in write-behind mode.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param entity the entity to save
      * @throws SQLException SQLException
      */
-    public String getLastString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<String> list = getList(columns, values, search, String.class);
-        return list.get(list.size() - 1);
+    public void save(@NotNull Object entity) throws SQLException {
+        EntityMapping<?> mapping = EntityMapping.of(entity.getClass());
+        String[] columns = {mapping.getKeyColumn()};
+        Object[] values = {mapping.getKey(entity)};
+
+        update(statements.upsert(columns, mapping.getWritableColumns()), mapping.getUpsertValues(entity));
+        written(mapping.getWritableColumns(), columns, values);
     }
 
     /**
-     * Gets the last String from the database.
+     * Saves a collection of entities, grouped by class and written as batches of upserts:
+     * the lines with their keys are updated and the missing ones are added.
+     * The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     * Read-only fields are never written and the entities are written immediately even in write-behind mode.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param entities the entities to save
      * @throws SQLException SQLException
      */
-    public String getLastString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastString(new String[]{column}, new Object[]{value}, search);
+    public void saveAll(@NotNull Collection<?> entities) throws SQLException {
+        Map<Class<?>, List<Object>> groups = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            groups.computeIfAbsent(entity.getClass(), k -> new ArrayList<>()).add(entity);
+        }
+
+        for (Map.Entry<Class<?>, List<Object>> group : groups.entrySet()) {
+            EntityMapping<?> mapping = EntityMapping.of(group.getKey());
+            String[] columns = {mapping.getKeyColumn()};
+
+            List<Object[]> parameters = new ArrayList<>(group.getValue().size());
+            for (Object entity : group.getValue()) {
+                parameters.add(mapping.getUpsertValues(entity));
+            }
+            batch(statements.upsert(columns, mapping.getWritableColumns()), parameters);
+
+            for (Object entity : group.getValue()) {
+                written(mapping.getWritableColumns(), columns, new Object[]{mapping.getKey(entity)});
+            }
+        }
     }
 
     /**
-     * Gets the last Boolean from the database.
+     * Update a list of columns with new values.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
      * @throws SQLException SQLException
-     * @return Boolean
      */
-    public Boolean getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Boolean> list = getList(columns, values, search, Boolean.class);
-        return list.get(list.size() - 1);
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String[] columns, Object[] values) throws SQLException {
+        if ((columns.length != values.length) || (columnsToEdit.length != newValues.length))
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        String query = statements.update(columnsToEdit, columns, values);
+        Object[] parameters = StatementCache.parameters(newValues, values);
+        WriteBehind writeBehind = writeBehind();
+        Object[] where = values.clone();
+        Runnable invalidation = () -> written(columnsToEdit, columns, where);
+        if (writeBehind != null) {
+            writeBehind.add(query, parameters, Arrays.asList(parameters).subList(newValues.length, parameters.length), invalidation);
+        } else {
+            update(query, parameters);
+            invalidation.run();
+        }
     }
 
     /**
-     * Gets the last Boolean from the database.
+     * Update a list of columns with new values.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columnToEdit the column to edit
+     * @param newValue     the new value
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
      * @throws SQLException SQLException
-     * @return Boolean
      */
-    public Boolean getLastBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastBoolean(new String[]{column}, new Object[]{value}, search);
+    public void set(@NotNull String columnToEdit, Object newValue, @NotNull String[] columns, Object[] values) throws SQLException {
+        set(new String[]{columnToEdit}, new Object[]{newValue}, columns, values);
     }
 
     /**
-     * Gets the last Timestamp from the database.
+     * Update a list of columns with new values.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
      * @throws SQLException SQLException
      */
-    public Timestamp getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Timestamp> list = getList(columns, values, search, Timestamp.class);
-        return list.get(list.size() - 1);
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String column, Object value) throws SQLException {
+        set(columnsToEdit, newValues, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Gets the last Timestamp from the database.
+     * Update a list of columns with new values.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columnToEdit the column to edit
+     * @param newValues    the new value
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
      * @throws SQLException SQLException
      */
-    public Timestamp getLastTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastTimestamp(new String[]{column}, new Object[]{value}, search);
+    public void set(@NotNull String columnToEdit, Object newValues, @NotNull String column, Object value) throws SQLException {
+        set(new String[]{columnToEdit}, new Object[]{newValues}, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Gets the last Date from the database.
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException | ClassCastException
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
      */
-    public Date getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Date> list = getList(columns, values, search, Date.class);
-        return list.get(list.size() - 1);
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        if ((columns.length != values.length) || (columnsToEdit.length != deltas.length))
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+        if (columnsToEdit.length == 0)
+            throw new IllegalArgumentException("Columns to edit cannot be empty");
+        for (Number delta : deltas) {
+            if (delta == null || ((delta instanceof Double || delta instanceof Float) && !Double.isFinite(delta.doubleValue())))
+                throw new IllegalArgumentException("Deltas must be finite numbers");
+        }
+
+        String query = statements.increment(columnsToEdit, columns, values);
+        Object[] where = values.clone();
+        Runnable invalidation = () -> written(columnsToEdit, columns, where);
+        DeltaBuffer deltaBuffer = deltaBuffer();
+        if (deltaBuffer != null) {
+            deltaBuffer.add(query, deltas, where, invalidation);
+            return;
+        }
+
+        Object[] parameters = StatementCache.parameters(deltas, values);
+        WriteBehind writeBehind = writeBehind();
+        if (writeBehind != null) {
+            writeBehind.add(query, parameters, null, invalidation);
+        } else {
+            update(query, parameters);
+            invalidation.run();
+        }
     }
 
     /**
-     * Gets the last Date from the database.
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
      * @throws SQLException SQLException
      */
-    public Date getLastDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastDate(new String[]{column}, new Object[]{value}, search);
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        increment(new String[]{columnToEdit}, new Number[]{delta}, columns, values);
     }
 
     /**
-     * Gets the last Time from the database.
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @throws SQLException SQLException | ClassCastException
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
      */
-    public Time getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Time> list = getList(columns, values, search, Time.class);
-        return list.get(list.size() - 1);
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        increment(columnsToEdit, deltas, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Gets the last Time from the database.
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
      * @throws SQLException SQLException
      */
-    public Time getLastTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastTime(new String[]{column}, new Object[]{value}, search);
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        increment(new String[]{columnToEdit}, new Number[]{delta}, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Gets the last Object from the database.
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
      * @throws SQLException SQLException
      */
-    public Object getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
-        List<Object> list = getList(columns, values, search, Object.class);
-        return list.get(list.size() - 1);
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        Number[] negated = new Number[deltas.length];
+        for (int i = 0; i < deltas.length; i++) {
+            if (deltas[i] == null) throw new IllegalArgumentException("Deltas must be finite numbers");
+            negated[i] = DeltaBuffer.negate(deltas[i]);
+        }
+        increment(columnsToEdit, negated, columns, values);
     }
 
     /**
-     * Gets the last Object from the database.
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
      * @throws SQLException SQLException
      */
-    public Object getLastObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
-        return getLastObject(new String[]{column}, new Object[]{value}, search);
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        decrement(new String[]{columnToEdit}, new Number[]{delta}, columns, values);
     }
 
     /**
-     * Gets the last T object from the database.
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
      *
-     * @param columns the list of columns for the research
-     * @param values  the list of values to be searched in the columns
-     * @param search  the name of the column whose value is wanted
-     * @param type    the type of the object you want to get
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
      * @throws SQLException SQLException
      */
-    public <T> T getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
-        List<Object> list = getList(columns, values, search, Object.class);
-        return type.cast(list.get(list.size() - 1));
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        decrement(columnsToEdit, deltas, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Gets the last T object from the database.
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
      *
-     * @param column the column for the research
-     * @param value  the value to be searched in the column
-     * @param search the name of the column whose value is wanted
-     * @param type   the type of the object you want to get
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
      * @throws SQLException SQLException
      */
-    public <T> T getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
-        return getLastObject(new String[]{column}, new Object[]{value}, search, type);
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        decrement(new String[]{columnToEdit}, new Number[]{delta}, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Update a list of columns with new values.
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key columns must be the PRIMARY KEY or a UNIQUE index of the table.
      *
-     * @param columnsToEdit the list of columns to edit
-     * @param newValues     the list of new values
-     * @param columns       the list of columns for the research
-     * @param values        the list of values to be searched in the columns
+     * @param keyColumns the list of columns of the key
+     * @param keyValues  the list of values of the key
+     * @param columns    the list of columns to edit
+     * @param values     the list of values to be assigned to the columns
      * @throws SQLException SQLException
      */
-    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String[] columns, Object[] values) throws SQLException {
-        if ((columns.length != values.length) || (columnsToEdit.length != newValues.length))
+    public void upsert(@NotNull String[] keyColumns, Object[] keyValues, @NotNull String[] columns, Object[] values) throws SQLException {
+        if ((keyColumns.length != keyValues.length) || (columns.length != values.length))
             throw new IllegalArgumentException("Columns and values length must have the same value");
-
-        StringBuilder query = new StringBuilder();
-        query.append("UPDATE `")
-                .append(this.table)
-                .append("` SET ");
-        for (int i = 0; i < columnsToEdit.length; i++) {
-            query.append("`")
-                    .append(columnsToEdit[i])
-                    .append("`")
-                    .append(" ='");
-            Object object = newValues[i];
-            if (object instanceof Boolean) {
-                if ((Boolean) object) query.append(1)
-                        .append("'");
-                else query.append(0)
-                        .append("'");
-            } else {
-                query.append(object)
-                        .append("'");
-            }
-            if (i != columnsToEdit.length - 1) query.append(", ");
-        }
-        query.append("WHERE (");
-        for (int i = 0; i < columns.length; i++) {
-            query.append("`")
-                    .append(columns[i])
-                    .append("`")
-                    .append(" = '")
-                    .append(values[i])
-                    .append("'");
-            if (i != columns.length - 1) query.append(" AND ");
+        if (keyColumns.length == 0)
+            throw new IllegalArgumentException("Key columns cannot be empty");
+
+        String query = statements.upsert(keyColumns, columns);
+        Object[] parameters = new Object[keyValues.length + values.length];
+        System.arraycopy(keyValues, 0, parameters, 0, keyValues.length);
+        System.arraycopy(values, 0, parameters, keyValues.length, values.length);
+        WriteBehind writeBehind = writeBehind();
+        Object[] key = keyValues.clone();
+        Runnable invalidation = () -> written(columns, keyColumns, key);
+        if (writeBehind != null) {
+            writeBehind.add(query, parameters, Arrays.asList(key), invalidation);
+        } else {
+            update(query, parameters);
+            invalidation.run();
         }
-        query.append(");");
-
-        executeUpdate(query.toString());
     }
 
     /**
-     * Update a list of columns with new values.
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
      *
-     * @param columnToEdit the column to edit
-     * @param newValue     the new value
-     * @param columns      the list of columns for the research
-     * @param values       the list of values to be searched in the columns
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param columns   the list of columns to edit
+     * @param values    the list of values to be assigned to the columns
      * @throws SQLException SQLException
      */
-    public void set(@NotNull String columnToEdit, Object newValue, @NotNull String[] columns, Object[] values) throws SQLException {
-        set(new String[]{columnToEdit}, new Object[]{newValue}, columns, values);
+    public void upsert(@NotNull String keyColumn, Object keyValue, @NotNull String[] columns, Object[] values) throws SQLException {
+        upsert(new String[]{keyColumn}, new Object[]{keyValue}, columns, values);
     }
 
     /**
-     * Update a list of columns with new values.
+     * Adds a line with the given key, or updates its column if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
      *
-     * @param columnsToEdit the list of columns to edit
-     * @param newValues     the list of new values
-     * @param column        the column for the research
-     * @param value         the value to be searched in the column
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param column    the column to edit
+     * @param value     the value to be assigned to the column
      * @throws SQLException SQLException
      */
-    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String column, Object value) throws SQLException {
-        set(columnsToEdit, newValues, new String[]{column}, new Object[]{value});
+    public void upsert(@NotNull String keyColumn, Object keyValue, @NotNull String column, Object value) throws SQLException {
+        upsert(new String[]{keyColumn}, new Object[]{keyValue}, new String[]{column}, new Object[]{value});
     }
 
     /**
-     * Update a list of columns with new values.
+     * Upserts many lines as a JDBC batch in a single transaction.
+     * The lines are written immediately even in write-behind mode and the whole read cache is invalidated.
      *
-     * @param columnToEdit the column to edit
-     * @param newValues    the new value
-     * @param column       the column for the research
-     * @param value        the value to be searched in the column
+     * @param keyColumns the list of columns of the key
+     * @param columns    the list of columns to edit
+     * @param rows       the values of each line: the key values followed by the values of the columns
      * @throws SQLException SQLException
      */
-    public void set(@NotNull String columnToEdit, Object newValues, @NotNull String column, Object value) throws SQLException {
-        set(new String[]{columnToEdit}, new Object[]{newValues}, new String[]{column}, new Object[]{value});
+    public void upsertAll(@NotNull String[] keyColumns, @NotNull String[] columns, @NotNull Collection<Object[]> rows) throws SQLException {
+        if (keyColumns.length == 0)
+            throw new IllegalArgumentException("Key columns cannot be empty");
+        for (Object[] row : rows) {
+            if (row.length != keyColumns.length + columns.length)
+                throw new IllegalArgumentException("Columns and values length must have the same value");
+        }
+
+        batch(statements.upsert(keyColumns, columns), rows);
+        if (!rows.isEmpty()) written();
     }
 }
@@ -0,0 +1,90 @@
+package it.revarmygaming.commonapi.db;
+
+import it.revarmygaming.commonapi.db.connectors.PoolStats;
+
+import java.util.*;
+
+/**
+ * Keeps track of the SQL instances that are not shut down, so their statistics can be read
+ * by the /ragcore command or by an exporter.
+ *
+ * <p>An instance is registered when it runs its first statement. The instances are weakly referenced,
+ * an instance dropped without being shut down, like the one of a reloaded plugin, can still be collected.</p>
+ */
+public final class SQLMonitor {
+
+    private static final Set<SQLImplementation> INSTANCES = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private SQLMonitor() {
+    }
+
+    static void register(SQLImplementation sql) {
+        INSTANCES.add(sql);
+    }
+
+    static void unregister(SQLImplementation sql) {
+        INSTANCES.remove(sql);
+    }
+
+    /**
+     * Return a snapshot of every SQL instance that is not shut down.
+     *
+     * @return the list of DatabaseStats
+     */
+    public static List<DatabaseStats> getStats() {
+        List<SQLImplementation> instances;
+        synchronized (INSTANCES) {
+            instances = new ArrayList<>(INSTANCES);
+        }
+
+        List<DatabaseStats> stats = new ArrayList<>(instances.size());
+        for (SQLImplementation sql : instances) {
+            stats.add(new DatabaseStats(sql.getTable(), sql.getPoolStats(), sql.getQueryStats(),
+                    sql.getCacheStats(), sql.getPendingWrites()));
+        }
+        stats.sort((first, second) -> first.getTable().compareToIgnoreCase(second.getTable()));
+        return stats;
+    }
+
+    /**
+     * Return a human readable report of every SQL instance, with color codes.
+     *
+     * @param topQueries the number of statement shapes shown for each instance, the slowest in total first
+     * @return the lines of the report
+     */
+    public static List<String> report(int topQueries) {
+        List<String> lines = new ArrayList<>();
+        List<DatabaseStats> stats = getStats();
+        if (stats.isEmpty()) {
+            lines.add("&eNo database connections are open");
+            return lines;
+        }
+
+        for (DatabaseStats database : stats) {
+            lines.add("&6" + database.getTable());
+            PoolStats pool = database.getPool();
+            if (pool != null) {
+                lines.add(String.format("&7 Pool &e%d&7 active, &e%d&7 idle, &e%d&7 waiting, &e%d&7/&e%d&7 open",
+                        pool.getActive(), pool.getIdle(), pool.getPending(), pool.getTotal(), pool.getMaximum()));
+                lines.add(String.format("&7 Acquire p99 &e%.2f ms&7, usage p99 &e%.2f ms&7, &e%d&7 timeouts",
+                        pool.getAcquireP99() / 1e3, pool.getUsageP99() / 1e3, pool.getTimeouts()));
+            }
+            CacheStats cache = database.getCache();
+            if (cache != null) {
+                lines.add(String.format("&7 Cache &e%d&7/&e%d&7 entries, &e%d&7 hits, &e%d&7 misses",
+                        cache.getSize(), cache.getMaximumSize(), cache.getHits(), cache.getMisses()));
+            }
+            if (database.getPendingWrites() > 0) {
+                lines.add("&7 Pending writes &e" + database.getPendingWrites());
+            }
+            List<QueryStats> queries = database.getQueries();
+            for (int i = 0; i < Math.min(topQueries, queries.size()); i++) {
+                QueryStats query = queries.get(i);
+                lines.add(String.format("&7 %dx p50 &e%.2f ms&7 p99 &e%.2f ms&7%s: &f%s",
+                        query.getCount(), query.getP50() / 1e3, query.getP99() / 1e3,
+                        query.getTimeouts() > 0 ? " &c" + query.getTimeouts() + " timeouts&7" : "", query.getQuery()));
+            }
+        }
+        return lines;
+    }
+}
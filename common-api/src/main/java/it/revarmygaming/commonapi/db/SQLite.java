@@ -1,6 +1,7 @@
 package it.revarmygaming.commonapi.db;
 
 import it.revarmygaming.commonapi.db.connectors.SQLiteConnector;
+import it.revarmygaming.commonapi.db.connectors.SQLiteSettings;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
@@ -9,11 +10,15 @@ public class SQLite extends SQLImplementation {
 
     private File database;
 
-    public SQLite(@NotNull File database, @NotNull String table) {
-        super(new SQLiteConnector(database), table);
+    public SQLite(@NotNull File database, @NotNull String table, @NotNull SQLiteSettings settings) {
+        super(new SQLiteConnector(database, settings), table, Dialect.SQLITE, Math.max(1, settings.getReaderPoolSize()), settings.getAsyncQueueSize());
         this.database = database;
     }
 
+    public SQLite(@NotNull File database, @NotNull String table) {
+        this(database, table, new SQLiteSettings());
+    }
+
     public File getDatabase() {
         return database;
     }
@@ -0,0 +1,56 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The SQLite syntax.
+ */
+class SQLiteDialect implements Dialect {
+
+    @Override
+    public String getName() {
+        return "SQLite";
+    }
+
+    @Override
+    public String quote(@NotNull String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+
+    @Override
+    public String upsert(@NotNull String table, @NotNull String[] keyColumns, @NotNull String[] columns) {
+        String insert = insert(table, StatementCache.concat(keyColumns, columns), 1);
+        StringBuilder query = new StringBuilder(insert.substring(0, insert.length() - 1));
+        query.append(" ON CONFLICT (");
+        for (int i = 0; i < keyColumns.length; i++) {
+            query.append(quote(keyColumns[i]));
+            if (i != keyColumns.length - 1) query.append(", ");
+        }
+        query.append(")");
+        if (columns.length == 0) return query.append(" DO NOTHING;").toString();
+
+        query.append(" DO UPDATE SET ");
+        for (int i = 0; i < columns.length; i++) {
+            query.append(quote(columns[i]))
+                    .append(" = excluded.")
+                    .append(quote(columns[i]));
+            if (i != columns.length - 1) query.append(", ");
+        }
+        return query.append(";").toString();
+    }
+
+    @Override
+    public String booleanType() {
+        return "INTEGER";
+    }
+
+    @Override
+    public String literal(boolean value) {
+        return value ? "1" : "0";
+    }
+
+    @Override
+    public String autoIncrement(@NotNull String column) {
+        return quote(column) + " INTEGER PRIMARY KEY AUTOINCREMENT";
+    }
+}
@@ -0,0 +1,196 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads and writes the values of a {@link SQLImplementation} in a {@link SharedCache}.
+ *
+ * <p>Values are stored with the Java serialization and only the classes of the JDK used for the results
+ * and the classes of this package can be read back.</p>
+ *
+ * <p>An error of the shared cache opens a circuit breaker: the reads fall back to the database and the shared
+ * cache is not called for the backoff time, so an unreachable cache costs one timeout per backoff instead of
+ * one per query. After the backoff the first operation invalidates the whole table, since the writes made
+ * in the meantime could not invalidate their entries, and closes the breaker if it succeeds.</p>
+ */
+class SecondLevelCache {
+
+    private static final Logger LOGGER = Logger.getLogger("RAGCore");
+    private static final long BACKOFF = TimeUnit.SECONDS.toNanos(10);
+    private static final String[] ALLOWED_PACKAGES = {"java.lang.", "java.math.", "java.sql.", "java.time.", "java.util.",
+            SecondLevelCache.class.getPackage().getName() + "."};
+
+    private final SharedCache shared;
+    private final String table;
+    private final long ttl;
+    private volatile boolean open = false;
+    private final AtomicLong retryAt = new AtomicLong();
+
+    SecondLevelCache(@NotNull SharedCache shared, @NotNull String table, long ttl, @NotNull TimeUnit unit) {
+        if (ttl < 1) throw new IllegalArgumentException("TTL must be at least 1");
+
+        this.shared = shared;
+        this.table = table;
+        this.ttl = Math.max(1, unit.toMillis(ttl));
+    }
+
+    /**
+     * Return the cached value and the generation of the table, to pass to {@link #put}.
+     * The value is {@link QueryCache#NULL} for a cached null and null if the value is not cached.
+     * The generation is -1 if the shared cache can't be used.
+     *
+     * @param key the key of the read
+     * @return the Result
+     */
+    Result get(QueryCache.Key key) {
+        if (!available()) return Result.UNAVAILABLE;
+
+        SharedCache.Lookup lookup;
+        try {
+            lookup = shared.lookup(table, key.id());
+        } catch (RuntimeException e) {
+            error("read", e);
+            return Result.UNAVAILABLE;
+        }
+
+        byte[] bytes = lookup.getValue();
+        if (bytes == null) return new Result(null, lookup.getGeneration());
+        if (bytes.length == 0) return new Result(QueryCache.NULL, lookup.getGeneration());
+
+        try (ObjectInputStream input = new FilteredInputStream(new ByteArrayInputStream(bytes))) {
+            return new Result(input.readObject(), lookup.getGeneration());
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.WARNING, "Could not deserialize a value of the shared cache of `" + table + "`: " + e);
+            return new Result(null, lookup.getGeneration());
+        }
+    }
+
+    /**
+     * Caches a value read from the database unless the table was invalidated since the read started.
+     *
+     * @param key        the key of the read
+     * @param value      the value read
+     * @param columns    the columns of the where clause, used to invalidate the entry
+     * @param values     the values of the where clause, used to invalidate the entry
+     * @param generation the generation returned by {@link #get} before the read started
+     */
+    void put(QueryCache.Key key, Object value, String[] columns, Object[] values, long generation) {
+        if (generation < 0 || open) return;
+
+        byte[] bytes;
+        if (value == null) {
+            bytes = new byte[0];
+        } else {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(output)) {
+                objects.writeObject(value);
+            } catch (IOException e) {
+                return;
+            }
+            bytes = output.toByteArray();
+        }
+
+        try {
+            shared.put(table, key.id(), bytes, columns, values, generation, ttl);
+        } catch (RuntimeException e) {
+            error("write", e);
+        }
+    }
+
+    void invalidate(String[] editedColumns, String[] columns, Object[] values) {
+        if (!available()) return;
+        try {
+            shared.invalidate(table, editedColumns, columns, values);
+        } catch (RuntimeException e) {
+            error("invalidate", e);
+        }
+    }
+
+    void invalidateAll() {
+        if (!available()) return;
+        try {
+            shared.invalidateAll(table);
+        } catch (RuntimeException e) {
+            error("invalidate", e);
+        }
+    }
+
+    /**
+     * Return true if the shared cache can be called. When the backoff of an open breaker elapses,
+     * a single caller invalidates the table and closes the breaker.
+     */
+    private boolean available() {
+        if (!open) return true;
+
+        long retryAt = this.retryAt.get();
+        long now = System.nanoTime();
+        if (now - retryAt < 0 || !this.retryAt.compareAndSet(retryAt, now + BACKOFF)) return false;
+
+        try {
+            shared.invalidateAll(table);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        open = false;
+        LOGGER.log(Level.INFO, "The shared cache of `" + table + "` is reachable again");
+        return true;
+    }
+
+    /**
+     * Opens the breaker after an error of the shared cache, logging the error once per outage.
+     */
+    private void error(String operation, Exception e) {
+        retryAt.set(System.nanoTime() + BACKOFF);
+        if (open) return;
+        open = true;
+        LOGGER.log(Level.WARNING, "Could not " + operation + " the shared cache of `" + table + "`, it is skipped for "
+                + TimeUnit.NANOSECONDS.toSeconds(BACKOFF) + " seconds: " + e);
+    }
+
+    /**
+     * A value read from the shared cache with the generation of its table.
+     */
+    static final class Result {
+        private static final Result UNAVAILABLE = new Result(null, -1);
+
+        final Object value;
+        final long generation;
+
+        private Result(Object value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * Reads only the classes of the allowed packages, so a tampered entry can't instantiate arbitrary classes.
+     */
+    private static class FilteredInputStream extends ObjectInputStream {
+
+        private FilteredInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            String name = description.getName();
+            int dimensions = 0;
+            while (dimensions < name.length() && name.charAt(dimensions) == '[') dimensions++;
+            if (dimensions > 0) {
+                if (name.charAt(dimensions) != 'L') return super.resolveClass(description);
+                name = name.substring(dimensions + 1, name.length() - 1);
+            }
+
+            for (String allowed : ALLOWED_PACKAGES) {
+                if (name.startsWith(allowed)) return super.resolveClass(description);
+            }
+            throw new InvalidClassException(name, "Class not allowed in the shared cache");
+        }
+    }
+}
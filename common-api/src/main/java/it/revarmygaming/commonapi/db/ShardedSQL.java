@@ -0,0 +1,1147 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * A logical table split across several instances, the shards, by the hash of a key column.
+ * The shards can use different connectors, different tables of the same database, or both.
+ *
+ * <p>An operation whose where clause contains the key column runs only on the shard of the key.
+ * The other operations run on every shard in parallel, on the executor of each shard: reads return
+ * the value of the first shard that has one, or the rows of every shard, and writes are applied to every shard.
+ * Inserts must contain the key column and the key column can't be edited, since it would move the line
+ * to another shard.</p>
+ *
+ * <p>Keys are mapped to shards with a jump consistent hash: appending a shard to the list moves only the keys
+ * that belong to the new shard, while removing or reordering shards moves most keys. Moving the lines is left
+ * to the caller. Operations not exposed here run on a single shard through {@link #shard(Object)}.</p>
+ *
+ * @param <S> the type of the shards
+ */
+public class ShardedSQL<S extends SQLImplementation> {
+
+    private final String keyColumn;
+    private final List<S> shards;
+
+    /**
+     * Creates a sharded table.
+     *
+     * @param keyColumn the column whose value chooses the shard of a line
+     * @param shards    the shards, new shards must be added at the end
+     */
+    public ShardedSQL(@NotNull String keyColumn, @NotNull List<S> shards) {
+        if (shards.isEmpty()) throw new IllegalArgumentException("At least one shard is required");
+
+        this.keyColumn = keyColumn;
+        this.shards = Collections.unmodifiableList(new ArrayList<>(shards));
+    }
+
+    /**
+     * Return the column whose value chooses the shard of a line.
+     *
+     * @return the key column
+     */
+    public String getKeyColumn() {
+        return keyColumn;
+    }
+
+    /**
+     * Return the shards.
+     *
+     * @return the unmodifiable list of shards
+     */
+    public List<S> getShards() {
+        return shards;
+    }
+
+    /**
+     * Return the index of the shard of a key. Values the database compares as equal, like numbers of
+     * different types or strings differing in case or trailing spaces, belong to the same shard.
+     *
+     * @param key the value of the key column
+     * @return the index of the shard
+     */
+    public int shardIndex(@NotNull Object key) {
+        byte[] bytes = key instanceof byte[] ? (byte[]) key
+                : SQLImplementation.normalize(key).toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+        try {
+            long hash = ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(bytes)).getLong();
+            return jump(hash, shards.size());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Return the shard of a key.
+     *
+     * @param key the value of the key column
+     * @return the shard
+     */
+    public S shard(@NotNull Object key) {
+        return shards.get(shardIndex(key));
+    }
+
+    /**
+     * Creates the table on every shard.
+     *
+     * @param args    the columns of the table
+     * @param charset the charset of the table
+     * @throws SQLException SQLException
+     */
+    public void createTable(@NotNull String[] args, String charset) throws SQLException {
+        fanOut(shards, shard -> {
+            shard.createTable(args, charset);
+            return null;
+        });
+    }
+
+    /**
+     * Creates the table on every shard.
+     *
+     * @param args the columns of the table
+     * @throws SQLException SQLException
+     */
+    public void createTable(@NotNull String[] args) throws SQLException {
+        fanOut(shards, shard -> {
+            shard.createTable(args);
+            return null;
+        });
+    }
+
+    /**
+     * Creates an index on every shard.
+     *
+     * @param name    the name of the index
+     * @param unique  true to create a unique index, unique only within each shard
+     * @param columns the indexed columns
+     * @throws SQLException SQLException
+     */
+    public void createIndex(@NotNull String name, boolean unique, @NotNull String... columns) throws SQLException {
+        fanOut(shards, shard -> {
+            shard.createIndex(name, unique, columns);
+            return null;
+        });
+    }
+
+    /**
+     * Adds a line to the shard of its key.
+     *
+     * @param columns the columns of the line, they must contain the key column
+     * @param values  the values of the line
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        required(columns, values).addLine(columns, values);
+    }
+
+    /**
+     * Adds a line with only the key column to its shard.
+     *
+     * @param column the key column
+     * @param value  the key
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String column, Object value) throws SQLException {
+        addLine(new String[]{column}, new Object[]{value});
+    }
+
+    /**
+     * Adds many lines, every shard receives its lines in parallel with {@link SQLImplementation#addLines}.
+     *
+     * @param columns the columns of the lines, they must contain the key column
+     * @param rows    the values of every line, in the order of the columns
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    public long addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows) throws SQLException {
+        Map<S, List<Object[]>> split = split(indexOf(columns, keyColumn), columns.length, rows);
+        long added = 0;
+        for (Long count : fanOut(split.keySet(), shard -> shard.addLines(columns, split.get(shard)))) {
+            added += count;
+        }
+        return added;
+    }
+
+    /**
+     * Inserts or updates a line on the shard of its key.
+     *
+     * @param keyColumns the columns of the unique key, they must contain the key column
+     * @param keyValues  the values of the unique key
+     * @param columns    the other columns to set
+     * @param values     the values of the other columns
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String[] keyColumns, @NotNull Object[] keyValues, @NotNull String[] columns, @NotNull Object[] values) throws SQLException {
+        if (indexOf(columns, keyColumn) != -1) throw new IllegalArgumentException("The key column `" + keyColumn + "` can't be edited");
+        required(keyColumns, keyValues).upsert(keyColumns, keyValues, columns, values);
+    }
+
+    /**
+     * Inserts or updates a line on the shard of its key.
+     *
+     * @param keyColumn the column of the unique key
+     * @param keyValue  the value of the unique key
+     * @param columns   the other columns to set
+     * @param values    the values of the other columns
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String keyColumn, @NotNull Object keyValue, @NotNull String[] columns, @NotNull Object[] values) throws SQLException {
+        upsert(new String[]{keyColumn}, new Object[]{keyValue}, columns, values);
+    }
+
+    /**
+     * Inserts or updates a line on the shard of its key.
+     *
+     * @param keyColumn the column of the unique key
+     * @param keyValue  the value of the unique key
+     * @param column    the other column to set
+     * @param value     the value of the other column
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String keyColumn, @NotNull Object keyValue, @NotNull String column, Object value) throws SQLException {
+        upsert(new String[]{keyColumn}, new Object[]{keyValue}, new String[]{column}, new Object[]{value});
+    }
+
+    /**
+     * Inserts or updates many lines, every shard receives its lines in parallel with {@link SQLImplementation#upsertAll}.
+     *
+     * @param keyColumns the columns of the unique key, they must contain the key column
+     * @param columns    the columns to edit
+     * @param rows       the values of each line: the key values followed by the values of the columns
+     * @throws SQLException SQLException
+     */
+    public void upsertAll(@NotNull String[] keyColumns, @NotNull String[] columns, @NotNull Collection<Object[]> rows) throws SQLException {
+        Map<S, List<Object[]>> split = split(indexOf(keyColumns, keyColumn), keyColumns.length + columns.length, rows);
+        fanOut(split.keySet(), shard -> {
+            shard.upsertAll(keyColumns, columns, split.get(shard));
+            return null;
+        });
+    }
+
+    /**
+     * Gets the rows whose key column has one of the given values. When the key column is the one of the shards,
+     * every shard is asked only for its keys, otherwise every shard is asked for every key. The shards run in parallel.
+     *
+     * @param keyColumn  the key column, it should be unique
+     * @param keys       the values of the key column, null values are ignored
+     * @param projection the names of the columns whose values are wanted, all the columns if empty.
+     *                   The key column is read even if it is not in the projection
+     * @param <K>        the type of the keys
+     * @return the Row of every key found, the keys without a line are missing
+     * @throws SQLException SQLException
+     */
+    public <K> Map<K, Row> getMany(@NotNull String keyColumn, @NotNull Collection<K> keys, @NotNull String... projection) throws SQLException {
+        Map<S, List<K>> split = new LinkedHashMap<>();
+        if (keyColumn.equalsIgnoreCase(this.keyColumn)) {
+            for (K key : keys) {
+                if (key != null) split.computeIfAbsent(shard(key), shard -> new ArrayList<>()).add(key);
+            }
+        } else {
+            for (S shard : shards) {
+                split.put(shard, new ArrayList<>(keys));
+            }
+        }
+
+        Map<K, Row> rows = new HashMap<>();
+        for (Map<K, Row> shardRows : fanOut(split.keySet(), shard -> shard.getMany(keyColumn, split.get(shard), projection))) {
+            rows.putAll(shardRows);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes the queued mutations of every shard.
+     *
+     * @throws SQLException on error when writing
+     */
+    public void flush() throws SQLException {
+        fanOut(shards, shard -> {
+            shard.flush();
+            return null;
+        });
+    }
+
+    /**
+     * Terminates the connection of every shard.
+     */
+    public void shutdown() {
+        for (S shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /**
+     * Checks if a line exists with the given values in the given columns.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String[] columns, Object[] values) throws SQLException {
+        return first(columns, values, shard -> shard.lineExists(columns, values) ? Boolean.TRUE : null) != null;
+    }
+
+    /**
+     * Checks if a line exists with the given value in the given column.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String column, Object value) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.lineExists(column, value) ? Boolean.TRUE : null) != null;
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getByte(columns, values, search));
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getByte(column, value, search));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getShort(columns, values, search));
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getShort(column, value, search));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getInteger(columns, values, search));
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getInteger(column, value, search));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getLong(columns, values, search));
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getLong(column, value, search));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getFloat(columns, values, search));
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getFloat(column, value, search));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getDouble(columns, values, search));
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getDouble(column, value, search));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getString(columns, values, search));
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getString(column, value, search));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getBoolean(columns, values, search));
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getBoolean(column, value, search));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getTimestamp(columns, values, search));
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getTimestamp(column, value, search));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getDate(columns, values, search));
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getDate(column, value, search));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getTime(columns, values, search));
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getTime(column, value, search));
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return first(columns, values, shard -> shard.getObject(columns, values, search));
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getObject(column, value, search));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return first(columns, values, shard -> shard.getObject(columns, values, search, type));
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getObject(column, value, search, type));
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return merge(columns, values, shard -> shard.getList(columns, values, search, type));
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return merge(new String[]{column}, new Object[]{value}, shard -> shard.getList(column, value, search, type));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return concat(columns, values, int[]::new, shard -> shard.getIntArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return concat(new String[]{column}, new Object[]{value}, int[]::new, shard -> shard.getIntArray(column, value, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return concat(columns, values, long[]::new, shard -> shard.getLongArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return concat(new String[]{column}, new Object[]{value}, long[]::new, shard -> shard.getLongArray(column, value, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return concat(columns, values, double[]::new, shard -> shard.getDoubleArray(columns, values, search));
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return concat(new String[]{column}, new Object[]{value}, double[]::new, shard -> shard.getDoubleArray(column, value, search));
+    }
+
+    /**
+     * Gets the first row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    public Row getRow(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        return first(columns, values, shard -> shard.getRow(columns, values, projection));
+    }
+
+    /**
+     * Gets the first row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    public Row getRow(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return first(new String[]{column}, new Object[]{value}, shard -> shard.getRow(column, value, projection));
+    }
+
+    /**
+     * Gets every row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    public List<Row> getRows(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        return merge(columns, values, shard -> shard.getRows(columns, values, projection));
+    }
+
+    /**
+     * Gets every row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    public List<Row> getRows(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return merge(new String[]{column}, new Object[]{value}, shard -> shard.getRows(column, value, projection));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, columnsToEdit, shard -> shard.set(columnsToEdit, newValues, columns, values));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newValue     the new value
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String columnToEdit, Object newValue, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, new String[]{columnToEdit}, shard -> shard.set(columnToEdit, newValue, columns, values));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, columnsToEdit, shard -> shard.set(columnsToEdit, newValues, column, value));
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newValues    the new value
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String columnToEdit, Object newValues, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, new String[]{columnToEdit}, shard -> shard.set(columnToEdit, newValues, column, value));
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, columnsToEdit, shard -> shard.increment(columnsToEdit, deltas, columns, values));
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, new String[]{columnToEdit}, shard -> shard.increment(columnToEdit, delta, columns, values));
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, columnsToEdit, shard -> shard.increment(columnsToEdit, deltas, column, value));
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, new String[]{columnToEdit}, shard -> shard.increment(columnToEdit, delta, column, value));
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, columnsToEdit, shard -> shard.decrement(columnsToEdit, deltas, columns, values));
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, new String[]{columnToEdit}, shard -> shard.decrement(columnToEdit, delta, columns, values));
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, columnsToEdit, shard -> shard.decrement(columnsToEdit, deltas, column, value));
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, new String[]{columnToEdit}, shard -> shard.decrement(columnToEdit, delta, column, value));
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        each(columns, values, null, shard -> shard.removeLine(columns, values));
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String column, Object value) throws SQLException {
+        each(new String[]{column}, new Object[]{value}, null, shard -> shard.removeLine(column, value));
+    }
+
+    /**
+     * Return the shard of the key in the where clause, or null if the where clause doesn't contain the key column.
+     */
+    private S route(String[] columns, Object[] values) {
+        if (columns.length != values.length)
+            throw new IllegalArgumentException("Columns and values length must have the same value");
+
+        int index = indexOf(columns, keyColumn);
+        return index == -1 || values[index] == null ? null : shard(values[index]);
+    }
+
+    private S required(String[] columns, Object[] values) {
+        S shard = route(columns, values);
+        if (shard == null) throw new IllegalArgumentException("The key column `" + keyColumn + "` is required");
+        return shard;
+    }
+
+    /**
+     * Groups the lines by shard, the key is at the given index of every line.
+     */
+    private Map<S, List<Object[]>> split(int index, int length, Iterable<Object[]> rows) {
+        if (index == -1) throw new IllegalArgumentException("The key column `" + keyColumn + "` is required");
+
+        Map<S, List<Object[]>> split = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            if (row.length != length)
+                throw new IllegalArgumentException("Columns and values length must have the same value");
+            if (row[index] == null) throw new IllegalArgumentException("The key column `" + keyColumn + "` is required");
+            split.computeIfAbsent(shard(row[index]), shard -> new ArrayList<>()).add(row);
+        }
+        return split;
+    }
+
+    /**
+     * Reads from the shard of the key, or from every shard returning the first value found.
+     */
+    private <T> T first(String[] columns, Object[] values, ShardTask<S, T> task) throws SQLException {
+        S shard = route(columns, values);
+        if (shard != null) return task.run(shard);
+
+        for (T t : fanOut(shards, task)) {
+            if (t != null) return t;
+        }
+        return null;
+    }
+
+    /**
+     * Reads from the shard of the key, or from every shard merging the results.
+     */
+    private <T> List<T> merge(String[] columns, Object[] values, ShardTask<S, List<T>> task) throws SQLException {
+        S shard = route(columns, values);
+        if (shard != null) return task.run(shard);
+
+        List<T> merged = new ArrayList<>();
+        for (List<T> list : fanOut(shards, task)) {
+            merged.addAll(list);
+        }
+        return merged;
+    }
+
+    /**
+     * Reads from the shard of the key, or from every shard concatenating the arrays.
+     */
+    private <A> A concat(String[] columns, Object[] values, IntFunction<A> allocator, ShardTask<S, A> task) throws SQLException {
+        S shard = route(columns, values);
+        if (shard != null) return task.run(shard);
+
+        List<A> arrays = fanOut(shards, task);
+        int length = 0;
+        for (A array : arrays) {
+            length += Array.getLength(array);
+        }
+
+        A merged = allocator.apply(length);
+        int offset = 0;
+        for (A array : arrays) {
+            int size = Array.getLength(array);
+            System.arraycopy(array, 0, merged, offset, size);
+            offset += size;
+        }
+        return merged;
+    }
+
+    /**
+     * Writes to the shard of the key, or to every shard.
+     */
+    private void each(String[] columns, Object[] values, String[] editedColumns, ShardRunnable<S> task) throws SQLException {
+        if (editedColumns != null && indexOf(editedColumns, keyColumn) != -1)
+            throw new IllegalArgumentException("The key column `" + keyColumn + "` can't be edited");
+
+        S shard = route(columns, values);
+        if (shard != null) {
+            task.run(shard);
+            return;
+        }
+
+        fanOut(shards, s -> {
+            task.run(s);
+            return null;
+        });
+    }
+
+    /**
+     * Runs a task on the given shards in parallel and returns the results in the order of the shards.
+     * The first shard runs on the calling thread, like a shard whose transaction or executor is the calling thread.
+     */
+    private <T> List<T> fanOut(Collection<S> targets, ShardTask<S, T> task) throws SQLException {
+        List<S> list = new ArrayList<>(targets);
+        List<CompletableFuture<T>> futures = new ArrayList<>(list.size());
+        for (int i = 0; i < list.size(); i++) {
+            S shard = list.get(i);
+            boolean inline = i == 0 || shard.inTransaction() || shard.async().isWorker();
+            futures.add(inline ? null : shard.async().supply(() -> task.run(shard)));
+        }
+
+        List<T> results = new ArrayList<>(list.size());
+        SQLException failure = null;
+        for (int i = 0; i < list.size(); i++) {
+            try {
+                results.add(futures.get(i) == null ? task.run(list.get(i)) : join(futures.get(i), list.get(i), task));
+            } catch (SQLException e) {
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+        if (failure != null) throw failure;
+        return results;
+    }
+
+    private <T> T join(CompletableFuture<T> future, S shard, ShardTask<S, T> task) throws SQLException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) throw (SQLException) e.getCause();
+            if (e.getCause() instanceof RejectedExecutionException) return task.run(shard);
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new SQLException(e.getCause());
+        }
+    }
+
+    private static int indexOf(String[] columns, String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equalsIgnoreCase(column)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * The jump consistent hash of Lamping and Veach: maps a hash to one of the buckets, moving only
+     * the hashes of the new bucket when a bucket is added.
+     */
+    private static int jump(long hash, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            hash = hash * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+    @FunctionalInterface
+    private interface ShardTask<S, T> {
+        T run(S shard) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface ShardRunnable<S> {
+        void run(S shard) throws SQLException;
+    }
+}
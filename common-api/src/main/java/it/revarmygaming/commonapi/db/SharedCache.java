@@ -0,0 +1,90 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A cache of serialized reads shared by every server, used as a second level behind the in-process cache.
+ *
+ * <p>Every entry remembers the where clause of its read, so a write only removes the entries that can
+ * contain the rows it touched. Each table has a generation that changes on every invalidation: an entry
+ * is stored only if the generation did not change since the read started, so a read racing with a write
+ * can't store a stale value.</p>
+ *
+ * @see RedisSharedCache
+ * @see MemorySharedCache
+ */
+public interface SharedCache {
+
+    /**
+     * Return the serialized value of a read and the generation of its table, read together in one round trip.
+     * The generation changes every time entries of the table are invalidated.
+     *
+     * @param table the table of the read
+     * @param key   the key of the read
+     * @return the Lookup
+     */
+    Lookup lookup(@NotNull String table, @NotNull String key);
+
+    /**
+     * Stores the serialized value of a read unless the table was invalidated since the given generation.
+     *
+     * @param table      the table of the read
+     * @param key        the key of the read
+     * @param value      the serialized value
+     * @param columns    the columns of the where clause of the read
+     * @param values     the values of the where clause of the read
+     * @param generation the generation of the table when the read started
+     * @param ttl        the time in milliseconds the value stays in the cache
+     */
+    void put(@NotNull String table, @NotNull String key, @NotNull byte[] value, @NotNull String[] columns, @NotNull Object[] values,
+             long generation, long ttl);
+
+    /**
+     * Removes the entries of a table that can contain the rows matched by a write.
+     *
+     * @param table         the table written
+     * @param editedColumns the columns edited by the write, they can't be used to prove two reads are disjoint
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     */
+    void invalidate(@NotNull String table, @NotNull String[] editedColumns, @NotNull String[] columns, @NotNull Object[] values);
+
+    /**
+     * Removes every entry of a table.
+     *
+     * @param table the table
+     */
+    void invalidateAll(@NotNull String table);
+
+    /**
+     * The result of {@link #lookup}.
+     */
+    final class Lookup {
+        private final byte[] value;
+        private final long generation;
+
+        /**
+         * Creates the result of a lookup.
+         *
+         * @param value      the serialized value, or null if it is not cached
+         * @param generation the generation of the table
+         */
+        public Lookup(byte[] value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+
+        /**
+         * Return the serialized value.
+         *
+         * @return the serialized value, or null if it is not cached
+         */
+        public byte[] getValue() {
+            return value;
+        }
+
+        public long getGeneration() {
+            return generation;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package it.revarmygaming.commonapi.db;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares the result of a read of a {@link SQLImplementation} with the identical reads started while it runs.
+ *
+ * <p>The first caller of a read runs the query, the callers arriving before it completes wait for its result
+ * instead of running the same query. A write removes the overlapping reads in flight, so a read started
+ * after a write never receives a result read before it.</p>
+ *
+ * <p>A caller waits for the read in flight no longer than its own query timeout, and stops waiting when its own
+ * asynchronous operation is cancelled. If the read in flight times out or is cancelled, the callers waiting for it
+ * run the read again instead of failing with it.</p>
+ */
+class SingleFlight {
+
+    private static final long WAIT_SLICE = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final Map<QueryCache.Key, Flight> flights = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * Runs a read, or waits for the identical read in flight.
+     *
+     * @param key     the key of the read
+     * @param primary true if the read must run on the primary database, it doesn't wait for a read running on a replica
+     * @param timeout the query timeout of the caller in seconds, 0 for no timeout
+     * @param loader  runs the query
+     * @return the value read, shared with the other callers
+     * @throws SQLException the exception thrown by the query
+     */
+    Object run(QueryCache.Key key, boolean primary, int timeout, Loader loader) throws SQLException {
+        long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout) : 0;
+        Cancellation cancellation = Cancellation.current();
+
+        while (true) {
+            Flight flight = flights.get(key);
+            if (flight == null) {
+                Flight started = new Flight(key.detach(), primary);
+                flight = flights.putIfAbsent(started.key, started);
+                if (flight == null) return load(started, loader);
+            }
+            if (primary && !flight.primary) return loader.load();
+
+            try {
+                Object value = await(flight, deadline, cancellation);
+                coalesced.increment();
+                return value;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                // The timeout or the cancellation of the read in flight belongs to its caller, not to this one
+                if (QueryMetrics.isTimeout(cause)) continue;
+                if (cause instanceof SQLException) throw (SQLException) cause;
+                if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+                if (cause instanceof Error) throw (Error) cause;
+                throw new SQLException(cause);
+            }
+        }
+    }
+
+    /**
+     * Detaches the reads in flight that can return rows touched by a write, the next identical reads run a new query.
+     *
+     * @param editedColumns the columns edited by the write
+     * @param columns       the columns of the where clause of the write, or the columns of an inserted line
+     * @param values        the values of the where clause of the write, or the values of an inserted line
+     */
+    void invalidate(String[] editedColumns, String[] columns, Object[] values) {
+        flights.keySet().removeIf(key -> key.overlaps(editedColumns, columns, values));
+    }
+
+    /**
+     * Detaches every read in flight.
+     */
+    void invalidateAll() {
+        flights.clear();
+    }
+
+    /**
+     * Return the number of reads that received the result of another read instead of running a query.
+     *
+     * @return the number of coalesced reads
+     */
+    long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Waits for the result of a read in flight until the deadline of the caller, or until its operation is cancelled.
+     */
+    private Object await(Flight flight, long deadline, Cancellation cancellation) throws SQLException, ExecutionException {
+        try {
+            if (deadline == 0 && cancellation == null) return flight.result.get();
+
+            while (true) {
+                if (cancellation != null && cancellation.isCancelled())
+                    throw new SQLException("The operation was cancelled", "57014");
+
+                long wait = WAIT_SLICE;
+                if (deadline != 0) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) throw new SQLTimeoutException("Timed out waiting for a read in flight", "57014");
+                    wait = Math.min(wait, remaining);
+                }
+
+                try {
+                    return flight.result.get(wait, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ignored) {
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a read in flight", e);
+        }
+    }
+
+    private Object load(Flight flight, Loader loader) throws SQLException {
+        Object value;
+        try {
+            value = loader.load();
+        } catch (SQLException | RuntimeException | Error e) {
+            // Removed before completing, so a caller running the read again doesn't find the failed flight
+            flights.remove(flight.key, flight);
+            flight.result.completeExceptionally(e);
+            throw e;
+        }
+        flights.remove(flight.key, flight);
+        flight.result.complete(value);
+        return value;
+    }
+
+    @FunctionalInterface
+    interface Loader {
+        Object load() throws SQLException;
+    }
+
+    private static class Flight {
+        private final QueryCache.Key key;
+        private final boolean primary;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Flight(QueryCache.Key key, boolean primary) {
+            this.key = key;
+            this.primary = primary;
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds and caches the parameterized SQL text used by {@link SQLImplementation}.
+ *
+ * <p>Statements are keyed by their shape (operation, columns and which where values are null)
+ * so the same SQL string is reused for every call and the driver statement cache gets hits.</p>
+ */
+class StatementCache {
+
+    private final String table;
+    private final Dialect dialect;
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+
+    StatementCache(String table, Dialect dialect) {
+        this.table = table;
+        this.dialect = dialect;
+    }
+
+    Dialect getDialect() {
+        return dialect;
+    }
+
+    /**
+     * Return the number of statement shapes cached.
+     *
+     * @return the number of cached statements
+     */
+    int size() {
+        return statements.size();
+    }
+
+    /**
+     * Removes every cached statement.
+     */
+    void clear() {
+        statements.clear();
+    }
+
+    /**
+     * Return the SELECT statement for the given where clause.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the columns to read, all the columns if empty
+     * @return the parameterized query
+     */
+    String select(@NotNull String[] columns, Object[] values, @NotNull String... projection) {
+        return statements.computeIfAbsent(key("SELECT", projection, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT ");
+            projection(query, projection);
+            query.append(" FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            return query.append(");").toString();
+        });
+    }
+
+    /**
+     * Return the SELECT statement reading a single row at a given offset.
+     * The offset is bound as the last parameter.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the columns to read, all the columns if empty
+     * @return the parameterized query
+     */
+    String selectRow(@NotNull String[] columns, Object[] values, @NotNull String... projection) {
+        return statements.computeIfAbsent(key("SELECT_ROW", projection, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT ");
+            projection(query, projection);
+            query.append(" FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            return query.append(")")
+                    .append(dialect.limit("1", "?"))
+                    .append(";").toString();
+        });
+    }
+
+    /**
+     * Return the SELECT statement reading the row with the greatest value in the ordering column.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param orderBy    the column used to order the rows
+     * @param projection the columns to read, all the columns if empty
+     * @return the parameterized query
+     */
+    String selectLast(@NotNull String[] columns, Object[] values, @NotNull String orderBy, @NotNull String... projection) {
+        return statements.computeIfAbsent(key("SELECT_LAST|" + orderBy, projection, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT ");
+            projection(query, projection);
+            query.append(" FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            return query.append(") ORDER BY ")
+                    .append(dialect.quote(orderBy))
+                    .append(" DESC")
+                    .append(dialect.limit("1", null))
+                    .append(";").toString();
+        });
+    }
+
+    /**
+     * Return the SELECT statement reading a page of rows ordered by the given columns, starting after a key.
+     * The parameters are the where values, then for each ordering column the key values up to it,
+     * and the maximum number of rows last.
+     *
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @param orderColumns the columns used to order the rows
+     * @param descending   true to order the rows from the greatest
+     * @param after        true if the page starts after a key, false for the first page
+     * @param projection   the columns to read, all the columns if empty
+     * @return the parameterized query
+     */
+    String selectPage(@NotNull String[] columns, Object[] values, @NotNull String[] orderColumns, boolean descending,
+                      boolean after, @NotNull String... projection) {
+        String operation = "SELECT_PAGE|" + String.join(",", orderColumns) + "|" + (descending ? "DESC" : "ASC") + "|" + after;
+        return statements.computeIfAbsent(key(operation, projection, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT ");
+            projection(query, projection);
+            query.append(" FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            query.append(")");
+            if (after) {
+                query.append(" AND (");
+                for (int i = 0; i < orderColumns.length; i++) {
+                    query.append("(");
+                    for (int j = 0; j < i; j++) {
+                        query.append(dialect.quote(orderColumns[j]))
+                                .append(" = ? AND ");
+                    }
+                    query.append(dialect.quote(orderColumns[i]))
+                            .append(descending ? " < ?" : " > ?")
+                            .append(")");
+                    if (i != orderColumns.length - 1) query.append(" OR ");
+                }
+                query.append(")");
+            }
+            query.append(" ORDER BY ");
+            for (int i = 0; i < orderColumns.length; i++) {
+                query.append(dialect.quote(orderColumns[i]))
+                        .append(descending ? " DESC" : " ASC");
+                if (i != orderColumns.length - 1) query.append(", ");
+            }
+            return query.append(dialect.limit("?", null))
+                    .append(";").toString();
+        });
+    }
+
+    /**
+     * Return the SELECT statement reading the rows whose column has one of the given number of values.
+     *
+     * @param column     the column for the research
+     * @param count      the number of values in the IN list
+     * @param projection the columns to read, all the columns if empty
+     * @return the parameterized query
+     */
+    String selectIn(@NotNull String column, int count, @NotNull String... projection) {
+        return statements.computeIfAbsent(key("SELECT_IN|" + column + "|" + count, projection, null, null), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT ");
+            projection(query, projection);
+            query.append(" FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE ")
+                    .append(dialect.quote(column))
+                    .append(" IN (");
+            for (int i = 0; i < count; i++) {
+                query.append("?");
+                if (i != count - 1) query.append(", ");
+            }
+            return query.append(");").toString();
+        });
+    }
+
+    /**
+     * Return the statement used to check if a line exists.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @return the parameterized query
+     */
+    String exists(@NotNull String[] columns, Object[] values) {
+        return statements.computeIfAbsent(key("EXISTS", null, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("SELECT 1 FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            return query.append(")")
+                    .append(dialect.limit("1", null))
+                    .append(";").toString();
+        });
+    }
+
+    /**
+     * Return the INSERT statement for the given columns.
+     *
+     * @param columns the list of columns to edit
+     * @return the parameterized query
+     */
+    String insert(@NotNull String[] columns) {
+        return insert(columns, 1);
+    }
+
+    /**
+     * Return the INSERT statement adding the given number of lines with a single VALUES clause.
+     *
+     * @param columns the list of columns to edit
+     * @param rows    the number of lines added by the statement
+     * @return the parameterized query
+     */
+    String insert(@NotNull String[] columns, int rows) {
+        return statements.computeIfAbsent(key("INSERT|" + rows, columns, null, null), k -> dialect.insert(table, columns, rows));
+    }
+
+    /**
+     * Return the upsert statement of the dialect: the line is added, or its columns are updated
+     * if a line with the same PRIMARY or UNIQUE key exists.
+     *
+     * @param keyColumns the columns of the key
+     * @param columns    the list of columns to edit
+     * @return the parameterized query, binding the key values followed by the values of the columns
+     */
+    String upsert(@NotNull String[] keyColumns, @NotNull String[] columns) {
+        return statements.computeIfAbsent(key("UPSERT|" + String.join(",", keyColumns), columns, null, null),
+                k -> dialect.upsert(table, keyColumns, columns));
+    }
+
+    /**
+     * Return the UPDATE statement for the given columns.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @return the parameterized query
+     */
+    String update(@NotNull String[] columnsToEdit, @NotNull String[] columns, Object[] values) {
+        return statements.computeIfAbsent(key("UPDATE", columnsToEdit, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("UPDATE ")
+                    .append(dialect.quote(table))
+                    .append(" SET ");
+            for (int i = 0; i < columnsToEdit.length; i++) {
+                query.append(dialect.quote(columnsToEdit[i]))
+                        .append(" = ?");
+                if (i != columnsToEdit.length - 1) query.append(", ");
+            }
+            query.append(" WHERE (");
+            where(query, columns, values);
+            return query.append(");").toString();
+        });
+    }
+
+    /**
+     * Return the UPDATE statement adding an amount to each of the given columns.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @return the parameterized query, binding the amounts followed by the where values
+     */
+    String increment(@NotNull String[] columnsToEdit, @NotNull String[] columns, Object[] values) {
+        return statements.computeIfAbsent(key("INCREMENT", columnsToEdit, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("UPDATE ")
+                    .append(dialect.quote(table))
+                    .append(" SET ");
+            for (int i = 0; i < columnsToEdit.length; i++) {
+                String column = dialect.quote(columnsToEdit[i]);
+                query.append(column)
+                        .append(" = ")
+                        .append(column)
+                        .append(" + ?");
+                if (i != columnsToEdit.length - 1) query.append(", ");
+            }
+            query.append(" WHERE (");
+            where(query, columns, values);
+            return query.append(");").toString();
+        });
+    }
+
+    /**
+     * Return the DELETE statement for the given where clause.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the values to be searched in the columns
+     * @return the parameterized query
+     */
+    String delete(@NotNull String[] columns, Object[] values) {
+        return statements.computeIfAbsent(key("DELETE", null, columns, values), k -> {
+            StringBuilder query = new StringBuilder();
+            query.append("DELETE FROM ")
+                    .append(dialect.quote(table))
+                    .append(" WHERE (");
+            where(query, columns, values);
+            return query.append(");").toString();
+        });
+    }
+
+    /**
+     * Return the parameters to bind for the given groups of values.
+     * Null where values are skipped because they are rendered as IS NULL.
+     *
+     * @param newValues the values of the edited columns, may be null
+     * @param values    the values to be searched in the columns
+     * @param trailing  the parameters bound after the where clause (ex. the offset)
+     * @return the parameters in binding order
+     */
+    static Object[] parameters(Object[] newValues, Object[] values, Object... trailing) {
+        int size = (newValues == null ? 0 : newValues.length) + trailing.length;
+        for (Object value : values) {
+            if (value != null) size++;
+        }
+
+        Object[] parameters = new Object[size];
+        int index = 0;
+        if (newValues != null) {
+            System.arraycopy(newValues, 0, parameters, 0, newValues.length);
+            index = newValues.length;
+        }
+        for (Object value : values) {
+            if (value != null) parameters[index++] = value;
+        }
+        System.arraycopy(trailing, 0, parameters, index, trailing.length);
+        return parameters;
+    }
+
+    private void projection(StringBuilder query, String[] projection) {
+        if (projection.length == 0) {
+            query.append("*");
+            return;
+        }
+        for (int i = 0; i < projection.length; i++) {
+            query.append(dialect.quote(projection[i]));
+            if (i != projection.length - 1) query.append(", ");
+        }
+    }
+
+    private void where(StringBuilder query, String[] columns, Object[] values) {
+        if (columns.length == 0) {
+            query.append("1 = 1");
+            return;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            query.append(dialect.quote(columns[i]));
+            if (values[i] == null) query.append(" IS NULL");
+            else query.append(" = ?");
+            if (i != columns.length - 1) query.append(" AND ");
+        }
+    }
+
+    /**
+     * Return the given columns followed by the other ones.
+     *
+     * @param first  the first columns
+     * @param second the columns added after the first ones
+     * @return the concatenated columns
+     */
+    static String[] concat(String[] first, String[] second) {
+        String[] result = new String[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static String key(String operation, String[] columnsToEdit, String[] columns, Object[] values) {
+        StringBuilder key = new StringBuilder(operation);
+        if (columnsToEdit != null) {
+            key.append('|');
+            for (String column : columnsToEdit) key.append(column).append(',');
+        }
+        if (columns != null) {
+            key.append('|');
+            for (int i = 0; i < columns.length; i++) {
+                key.append(columns[i]).append(values[i] == null ? "!," : ",");
+            }
+        }
+        return key.toString();
+    }
+}
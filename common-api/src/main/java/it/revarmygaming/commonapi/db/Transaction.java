@@ -0,0 +1,2173 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * A unit of work of a {@link SQLImplementation}: every operation made through it, or through the
+ * SQLImplementation on the same thread, uses the same connection and is committed once at the end
+ * of the block passed to {@link SQLImplementation#transaction(Work)}.
+ *
+ * <p>The write-behind queue and the read cache are bypassed inside the transaction, the cache
+ * is invalidated after the commit. A Transaction can be used only by the thread that started it
+ * and only until its block returns.</p>
+ */
+public class Transaction {
+
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int SQLITE_BUSY = 5;
+
+    private final SQLImplementation sql;
+    private final Thread thread;
+    private final Connection connection;
+    private final Connection borrowed;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private volatile boolean active = true;
+
+    Transaction(SQLImplementation sql, Connection connection) {
+        this.sql = sql;
+        this.thread = Thread.currentThread();
+        this.connection = connection;
+        this.borrowed = (Connection) Proxy.newProxyInstance(Transaction.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                        case "commit":
+                        case "rollback":
+                        case "setAutoCommit":
+                            return null;
+                        case "isClosed":
+                            return !active || connection.isClosed();
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Return the connection of the transaction, closing it or ending the transaction on it has no effect.
+     *
+     * @return the Connection
+     */
+    Connection connection() {
+        return borrowed;
+    }
+
+    /**
+     * Runs the given task after the commit, or drops it if the transaction is rolled back.
+     *
+     * @param task the task
+     */
+    void afterCommit(Runnable task) {
+        afterCommit.add(task);
+    }
+
+    /**
+     * Commits the transaction and runs the tasks waiting for the commit.
+     *
+     * @throws SQLException if the commit fails
+     */
+    void commit() throws SQLException {
+        connection.commit();
+        active = false;
+        for (Runnable task : afterCommit) {
+            task.run();
+        }
+    }
+
+    void end() {
+        active = false;
+    }
+
+    /**
+     * Return true if the transaction was rolled back by the database to resolve a deadlock, so it can be run again.
+     *
+     * @param exception the exception thrown by the transaction
+     * @return true if the transaction can be retried
+     */
+    static boolean isDeadlock(SQLException exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (!(cause instanceof SQLException)) continue;
+            SQLException e = (SQLException) cause;
+            if ("40001".equals(e.getSQLState()) || e.getErrorCode() == MYSQL_DEADLOCK) return true;
+            if (e.getErrorCode() == SQLITE_BUSY && String.valueOf(e.getMessage()).contains("SQLITE_BUSY")) return true;
+        }
+        return false;
+    }
+
+    private SQLImplementation sql() {
+        if (!active) throw new IllegalStateException("The transaction is over");
+        if (Thread.currentThread() != thread) throw new IllegalStateException("The transaction belongs to another thread");
+        return sql;
+    }
+
+    /**
+     * Return the table name.
+     *
+     * @return The name of the table
+     */
+    public String getTable() {
+        return sql().getTable();
+    }
+
+    /**
+     * Executes a given MySQL query.
+     *
+     * @param query the query to be executed
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeQuery(@NotNull String query) throws SQLException {
+        return sql().executeQuery(query);
+    }
+
+    /**
+     * Executes a given parameterized MySQL query.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeQuery(@NotNull String query, Object... parameters) throws SQLException {
+        return sql().executeQuery(query, parameters);
+    }
+
+    /**
+     * Executes a given parameterized MySQL query with a forward-only, read-only cursor using the fetch size of this instance,
+     * so the rows are streamed from the database instead of being loaded in memory.
+     * The Connection stays busy until the CompositeResult is closed.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @return the CompositeResult of the query
+     * @throws SQLException SQLException
+     */
+    public CompositeResult executeStreamingQuery(@NotNull String query, Object... parameters) throws SQLException {
+        return sql().executeStreamingQuery(query, parameters);
+    }
+
+    /**
+     * Streams the rows matching the given values, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    public Stream<Row> stream(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        return sql().stream(columns, values, projection);
+    }
+
+    /**
+     * Streams the rows matching the given value, reading only the given columns.
+     * The memory used does not depend on the number of rows. The Stream must be closed,
+     * use it in a try-with-resources block. SQLExceptions are thrown as {@link UncheckedSQLException}.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Stream of Row
+     * @throws SQLException SQLException
+     */
+    public Stream<Row> stream(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return sql().stream(column, value, projection);
+    }
+
+    /**
+     * Calls the handler for each row matching the given values, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param columns    the list of columns for the research, empty to read the whole table
+     * @param values     the list of values to be searched in the columns
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    public void forEach(@NotNull String[] columns, Object[] values, @NotNull CompositeResult.Handler handler, @NotNull String... projection) throws SQLException {
+        sql().forEach(columns, values, handler, projection);
+    }
+
+    /**
+     * Calls the handler for each row matching the given value, reading only the given columns.
+     * The columns are read from the CompositeResult by their index in the projection (starts from 1),
+     * no object is allocated per row.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param handler    reads the current row
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @throws SQLException SQLException
+     */
+    public void forEach(@NotNull String column, Object value, @NotNull CompositeResult.Handler handler, @NotNull String... projection) throws SQLException {
+        sql().forEach(column, value, handler, projection);
+    }
+
+    /**
+     * Executes an update given a MySQL query.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query the query to be executed
+     * @throws SQLException SQLException
+     */
+    public void executeUpdate(@NotNull String query) throws SQLException {
+        sql().executeUpdate(query);
+    }
+
+    /**
+     * Executes an update given a parameterized MySQL query.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind to the query
+     * @throws SQLException SQLException
+     */
+    public void executeUpdate(@NotNull String query, Object... parameters) throws SQLException {
+        sql().executeUpdate(query, parameters);
+    }
+
+    /**
+     * Executes a parameterized MySQL query once for each set of parameters as a JDBC batch in a single transaction.
+     * The whole read cache is invalidated because the affected lines are unknown.
+     *
+     * @param query      the query to be executed, with a ? for each parameter
+     * @param parameters the parameters to bind for each execution
+     * @throws SQLException SQLException
+     */
+    public void executeBatch(@NotNull String query, @NotNull Collection<Object[]> parameters) throws SQLException {
+        sql().executeBatch(query, parameters);
+    }
+
+    /**
+     * Adds a new line to the table assigning the given values to the given columns.
+     *
+     * @param columns the list of columns to edit
+     * @param values  the list of values to be added to the columns
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        sql().addLine(columns, values);
+    }
+
+    /**
+     * Adds a new line to the table assigning the given value to the given column.
+     *
+     * @param column the column to edit
+     * @param value  the value to be added to the column
+     * @throws SQLException SQLException
+     */
+    public void addLine(@NotNull String column, Object value) throws SQLException {
+        sql().addLine(column, value);
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are sent in batches of 500 with multi-row INSERT statements, in a single transaction.
+     *
+     * @param columns the list of columns to edit
+     * @param rows    the values of each line, in the order of the columns
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    public long addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows) throws SQLException {
+        return sql().addLines(columns, rows);
+    }
+
+    /**
+     * Adds many lines to the table assigning the given values to the given columns.
+     * The lines are read lazily from the iterable and sent in batches with multi-row INSERT statements,
+     * so the memory used does not depend on the number of lines. Every line is added in a single transaction:
+     * if one of them fails none is added. The lines are written immediately even in write-behind mode
+     * and the whole read cache is invalidated.
+     *
+     * @param columns   the list of columns to edit
+     * @param rows      the values of each line, in the order of the columns
+     * @param batchSize the number of lines sent to the database at once, rounded up to fill the last multi-row statement
+     * @param progress  called after each batch with the number of lines sent so far, may be null
+     * @return the number of lines added
+     * @throws SQLException SQLException
+     */
+    public long addLines(@NotNull String[] columns, @NotNull Iterable<Object[]> rows, int batchSize, LongConsumer progress) throws SQLException {
+        return sql().addLines(columns, rows, batchSize, progress);
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String[] columns, Object[] values) throws SQLException {
+        sql().removeLine(columns, values);
+    }
+
+    /**
+     * Removes a line from the table where the given columns have the given values.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void removeLine(@NotNull String column, Object value) throws SQLException {
+        sql().removeLine(column, value);
+    }
+
+    /**
+     * Checks if a line exists with the given values in the given columns.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String[] columns, Object[] values) throws SQLException {
+        return sql().lineExists(columns, values);
+    }
+
+    /**
+     * Checks if a line exists with the given value in the given column.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public boolean lineExists(@NotNull String column, Object value) throws SQLException {
+        return sql().lineExists(column, value);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getByte(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getByte(columns, values, search);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getByte(column, value, search, row);
+    }
+
+    /**
+     * Gets a Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getByte(column, value, search);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getShort(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getShort(columns, values, search);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getShort(column, value, search, row);
+    }
+
+    /**
+     * Gets a Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getShort(column, value, search);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getInteger(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getInteger(columns, values, search);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getInteger(column, value, search, row);
+    }
+
+    /**
+     * Gets a Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getInteger(column, value, search);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getLong(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLong(columns, values, search);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getLong(column, value, search, row);
+    }
+
+    /**
+     * Gets a Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLong(column, value, search);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getFloat(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getFloat(columns, values, search);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getFloat(column, value, search, row);
+    }
+
+    /**
+     * Gets a Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getFloat(column, value, search);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getDouble(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getDouble(columns, values, search);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getDouble(column, value, search, row);
+    }
+
+    /**
+     * Gets a Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getDouble(column, value, search);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getString(columns, values, search, row);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getString(columns, values, search);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getString(column, value, search, row);
+    }
+
+    /**
+     * Gets a String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getString(column, value, search);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getBoolean(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getBoolean(columns, values, search);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getBoolean(column, value, search, row);
+    }
+
+    /**
+     * Gets a Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Boolean getBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getBoolean(column, value, search);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getTimestamp(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getTimestamp(columns, values, search);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getTimestamp(column, value, search, row);
+    }
+
+    /**
+     * Gets a Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getTimestamp(column, value, search);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getDate(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getDate(columns, values, search);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getDate(column, value, search, row);
+    }
+
+    /**
+     * Gets a Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getDate(column, value, search);
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getTime(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getTime(columns, values, search);
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getTime(column, value, search, row);
+    }
+
+    /**
+     * Gets a Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getTime(column, value, search);
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search, int row) throws SQLException {
+        return sql().getObject(columns, values, search, row);
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getObject(columns, values, search);
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String column, Object value, @NotNull String search, int row) throws SQLException {
+        return sql().getObject(column, value, search, row);
+    }
+
+    /**
+     * Gets a Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getObject(column, value, search);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param row     if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
+        return sql().getObject(columns, values, search, type, row);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getObject(columns, values, search, type);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @param row    if the research has more than one results, this is the number of the result you want (starts from 1)
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, int row) throws SQLException {
+        return sql().getObject(column, value, search, type, row);
+    }
+
+    /**
+     * Gets a T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getObject(column, value, search, type);
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getList(columns, values, search, type);
+    }
+
+    /**
+     * Gets a ArrayList of Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the ArrayList
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public <T> List<T> getList(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getList(column, value, search, type);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getIntArray(columns, values, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of int, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public int[] getIntArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getIntArray(column, value, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLongArray(columns, values, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of long, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public long[] getLongArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLongArray(column, value, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getDoubleArray(columns, values, search);
+    }
+
+    /**
+     * Gets the values of a numeric column as an array of double, read straight from the result without boxing.
+     * SQL NULL values are skipped.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @return the values, in the order returned by the database
+     * @throws SQLException SQLException
+     */
+    public double[] getDoubleArray(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getDoubleArray(column, value, search);
+    }
+
+    /**
+     * Gets the last Byte from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Byte getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastByte(columns, values, search);
+    }
+
+    /**
+     * Gets the last Byte from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Byte getLastByte(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastByte(column, value, search);
+    }
+
+    /**
+     * Gets the last Short from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Short getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastShort(columns, values, search);
+    }
+
+    /**
+     * Gets the last Short from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Short getLastShort(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastShort(column, value, search);
+    }
+
+    /**
+     * Gets the last Integer from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastInteger(columns, values, search);
+    }
+
+    /**
+     * Gets the last Integer from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Integer getLastInteger(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastInteger(column, value, search);
+    }
+
+    /**
+     * Gets the last Long from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastLong(columns, values, search);
+    }
+
+    /**
+     * Gets the last Long from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Long getLastLong(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastLong(column, value, search);
+    }
+
+    /**
+     * Gets the last Float from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastFloat(columns, values, search);
+    }
+
+    /**
+     * Gets the last Float from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Float getLastFloat(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastFloat(column, value, search);
+    }
+
+    /**
+     * Gets the last Double from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastDouble(columns, values, search);
+    }
+
+    /**
+     * Gets the last Double from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Double getLastDouble(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastDouble(column, value, search);
+    }
+
+    /**
+     * Gets the last String from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getLastString(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastString(columns, values, search);
+    }
+
+    /**
+     * Gets the last String from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public String getLastString(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastString(column, value, search);
+    }
+
+    /**
+     * Gets the last Boolean from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     * @return Boolean
+     */
+    public Boolean getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastBoolean(columns, values, search);
+    }
+
+    /**
+     * Gets the last Boolean from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     * @return Boolean
+     */
+    public Boolean getLastBoolean(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastBoolean(column, value, search);
+    }
+
+    /**
+     * Gets the last Timestamp from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastTimestamp(columns, values, search);
+    }
+
+    /**
+     * Gets the last Timestamp from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Timestamp getLastTimestamp(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastTimestamp(column, value, search);
+    }
+
+    /**
+     * Gets the last Date from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Date getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastDate(columns, values, search);
+    }
+
+    /**
+     * Gets the last Date from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Date getLastDate(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastDate(column, value, search);
+    }
+
+    /**
+     * Gets the last Time from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException | ClassCastException
+     */
+    public Time getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastTime(columns, values, search);
+    }
+
+    /**
+     * Gets the last Time from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Time getLastTime(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastTime(column, value, search);
+    }
+
+    /**
+     * Gets the last Object from the database.
+     * The rows are read in the order returned by the database and only the last value is kept,
+     * use the overload with an ordering column to read a single row.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search) throws SQLException {
+        return sql().getLastObject(columns, values, search);
+    }
+
+    /**
+     * Gets the last Object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @throws SQLException SQLException
+     */
+    public Object getLastObject(@NotNull String column, Object value, @NotNull String search) throws SQLException {
+        return sql().getLastObject(column, value, search);
+    }
+
+    /**
+     * Gets the last T object from the database.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getLastObject(columns, values, search, type);
+    }
+
+    /**
+     * Gets the last T object from the database.
+     *
+     * @param column the column for the research
+     * @param value  the value to be searched in the column
+     * @param search the name of the column whose value is wanted
+     * @param type   the type of the object you want to get
+     * @throws SQLException SQLException
+     */
+    public <T> T getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type) throws SQLException {
+        return sql().getLastObject(column, value, search, type);
+    }
+
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Byte getLastByte(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastByte(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Byte from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Byte getLastByte(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastByte(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Short getLastShort(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastShort(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Short from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Short getLastShort(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastShort(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Integer getLastInteger(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastInteger(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Integer from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Integer getLastInteger(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastInteger(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Long getLastLong(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastLong(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Long from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Long getLastLong(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastLong(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Float getLastFloat(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastFloat(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Float from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Float getLastFloat(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastFloat(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Double getLastDouble(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastDouble(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Double from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Double getLastDouble(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastDouble(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public String getLastString(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastString(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last String from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public String getLastString(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastString(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Boolean getLastBoolean(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastBoolean(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Boolean from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Boolean getLastBoolean(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastBoolean(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Timestamp getLastTimestamp(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastTimestamp(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Timestamp from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Timestamp getLastTimestamp(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastTimestamp(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Date getLastDate(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastDate(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Date from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Date getLastDate(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastDate(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Time getLastTime(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastTime(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Time from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Time getLastTime(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastTime(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Object getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastObject(columns, values, search, orderBy);
+    }
+
+    /**
+     * Gets the last Object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public Object getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull String orderBy) throws SQLException {
+        return sql().getLastObject(column, value, search, orderBy);
+    }
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param columns the list of columns for the research
+     * @param values  the list of values to be searched in the columns
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public <T> T getLastObject(@NotNull String[] columns, Object[] values, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) throws SQLException {
+        return sql().getLastObject(columns, values, search, type, orderBy);
+    }
+
+    /**
+     * Gets the last T object from the database, ordering the rows by the given column.
+     *
+     * @param column  the column for the research
+     * @param value   the value to be searched in the column
+     * @param search  the name of the column whose value is wanted
+     * @param type    the type of the object you want to get
+     * @param orderBy the column used to order the rows, the last row is the one with the greatest value
+     * @throws SQLException SQLException
+     */
+    public <T> T getLastObject(@NotNull String column, Object value, @NotNull String search, @NotNull Class<T> type, @NotNull String orderBy) throws SQLException {
+        return sql().getLastObject(column, value, search, type, orderBy);
+    }
+
+    /**
+     * Gets the first row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    public Row getRow(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        return sql().getRow(columns, values, projection);
+    }
+
+    /**
+     * Gets the first row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the Row, or null if no line matches
+     * @throws SQLException SQLException
+     */
+    public Row getRow(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return sql().getRow(column, value, projection);
+    }
+
+    /**
+     * Gets every row matching the given values, reading only the given columns.
+     *
+     * @param columns    the list of columns for the research
+     * @param values     the list of values to be searched in the columns
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    public List<Row> getRows(@NotNull String[] columns, Object[] values, @NotNull String... projection) throws SQLException {
+        return sql().getRows(columns, values, projection);
+    }
+
+    /**
+     * Gets every row matching the given value, reading only the given columns.
+     *
+     * @param column     the column for the research
+     * @param value      the value to be searched in the column
+     * @param projection the names of the columns whose values are wanted, all the columns if empty
+     * @return the list of Row
+     * @throws SQLException SQLException
+     */
+    public List<Row> getRows(@NotNull String column, Object value, @NotNull String... projection) throws SQLException {
+        return sql().getRows(column, value, projection);
+    }
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination: the rows are ordered by the given
+     * columns and the page starts after the given key, so no row before it is scanned.
+     * The ordering columns should not contain NULL and together they should be unique
+     * (ex. the score followed by the primary key), otherwise rows with the same key can be skipped.
+     *
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @param orderColumns the columns used to order the rows, an index starting with them makes every page cheap
+     * @param descending   true to order the rows from the greatest
+     * @param afterKey     the values of the ordering columns after which the page starts,
+     *                     the {@link Page#getNextKey()} of the previous page or null for the first page
+     * @param limit        the maximum number of rows of the page
+     * @param projection   the names of the columns whose values are wanted, all the columns if empty.
+     *                     The ordering columns are read even if they are not in the projection
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    public Page page(@NotNull String[] columns, Object[] values, @NotNull String[] orderColumns, boolean descending, Object[] afterKey, int limit, @NotNull String... projection) throws SQLException {
+        return sql().page(columns, values, orderColumns, descending, afterKey, limit, projection);
+    }
+
+    /**
+     * Gets a page of the rows matching the given values with keyset pagination, ordered by a unique column.
+     *
+     * @param columns     the list of columns for the research
+     * @param values      the list of values to be searched in the columns
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    public Page page(@NotNull String[] columns, Object[] values, @NotNull String orderColumn, Object[] afterKey, int limit, @NotNull String... projection) throws SQLException {
+        return sql().page(columns, values, orderColumn, afterKey, limit, projection);
+    }
+
+    /**
+     * Gets a page of the rows matching the given value with keyset pagination, ordered by a unique column.
+     *
+     * @param column      the column for the research
+     * @param value       the value to be searched in the column
+     * @param orderColumn the unique column used to order the rows, from the smallest
+     * @param afterKey    the {@link Page#getNextKey()} of the previous page, or null for the first page
+     * @param limit       the maximum number of rows of the page
+     * @param projection  the names of the columns whose values are wanted, all the columns if empty
+     * @return the Page
+     * @throws SQLException SQLException
+     */
+    public Page page(@NotNull String column, Object value, @NotNull String orderColumn, Object[] afterKey, int limit, @NotNull String... projection) throws SQLException {
+        return sql().page(column, value, orderColumn, afterKey, limit, projection);
+    }
+
+    /**
+     * Gets the rows whose key column has one of the given values, with one query for every 500 keys.
+     * The queries run concurrently on the executor of this instance, except inside a transaction or when
+     * called by the executor itself. The read cache is not used.
+     *
+     * @param keyColumn  the key column, it should be unique
+     * @param keys       the values of the key column, null values are ignored
+     * @param projection the names of the columns whose values are wanted, all the columns if empty.
+     *                   The key column is read even if it is not in the projection
+     * @param <K>        the type of the keys
+     * @return the Row of every key found, the keys without a line are missing
+     * @throws SQLException SQLException
+     */
+    public <K> Map<K, Row> getMany(@NotNull String keyColumn, @NotNull Collection<K> keys, @NotNull String... projection) throws SQLException {
+        return sql().getMany(keyColumn, keys, projection);
+    }
+
+    /**
+     * Loads the entity whose key column has the given value.
+     * The fields of the class annotated with {@link Exposed} are read with a single query.
+     *
+     * @param type the class of the entity, it must have a constructor without parameters
+     *             and a field annotated with {@code @Exposed(key = true)}
+     * @param key  the value of the key column
+     * @param <T>  the type of the entity
+     * @return the entity, or null if no line has the given key
+     * @throws SQLException SQLException
+     */
+    public <T> T load(@NotNull Class<T> type, @NotNull Object key) throws SQLException {
+        return sql().load(type, key);
+    }
+
+    /**
+     * Saves an entity with a single upsert: the line with its key is updated, or added if it does not exist.
+     * The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     * Read-only fields are never written and the entity is written immediately even in write-behind mode.
+     *
+     * @param entity the entity to save
+     * @throws SQLException SQLException
+     */
+    public void save(@NotNull Object entity) throws SQLException {
+        sql().save(entity);
+    }
+
+    /**
+     * Saves a collection of entities, grouped by class and written as batches of upserts:
+     * the lines with their keys are updated and the missing ones are added.
+     * The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     * Read-only fields are never written and the entities are written immediately even in write-behind mode.
+     *
+     * @param entities the entities to save
+     * @throws SQLException SQLException
+     */
+    public void saveAll(@NotNull Collection<?> entities) throws SQLException {
+        sql().saveAll(entities);
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().set(columnsToEdit, newValues, columns, values);
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newValue     the new value
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String columnToEdit, Object newValue, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().set(columnToEdit, newValue, columns, values);
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnsToEdit the list of columns to edit
+     * @param newValues     the list of new values
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String[] columnsToEdit, Object[] newValues, @NotNull String column, Object value) throws SQLException {
+        sql().set(columnsToEdit, newValues, column, value);
+    }
+
+    /**
+     * Update a list of columns with new values.
+     *
+     * @param columnToEdit the column to edit
+     * @param newValues    the new value
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void set(@NotNull String columnToEdit, Object newValues, @NotNull String column, Object value) throws SQLException {
+        sql().set(columnToEdit, newValues, column, value);
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().increment(columnsToEdit, deltas, columns, values);
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().increment(columnToEdit, delta, columns, values);
+    }
+
+    /**
+     * Adds an amount to a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to increment
+     * @param deltas        the list of amounts to add, negative to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        sql().increment(columnsToEdit, deltas, column, value);
+    }
+
+    /**
+     * Adds an amount to a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to increment
+     * @param delta        the amount to add, negative to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void increment(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        sql().increment(columnToEdit, delta, column, value);
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param columns       the list of columns for the research
+     * @param values        the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().decrement(columnsToEdit, deltas, columns, values);
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param columns      the list of columns for the research
+     * @param values       the list of values to be searched in the columns
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().decrement(columnToEdit, delta, columns, values);
+    }
+
+    /**
+     * Subtracts an amount from a list of columns in a single statement, without reading them first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnsToEdit the list of columns to decrement
+     * @param deltas        the list of amounts to subtract
+     * @param column        the column for the research
+     * @param value         the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String[] columnsToEdit, @NotNull Number[] deltas, @NotNull String column, Object value) throws SQLException {
+        sql().decrement(columnsToEdit, deltas, column, value);
+    }
+
+    /**
+     * Subtracts an amount from a column in a single statement, without reading it first.
+     * A column containing NULL stays NULL.
+     *
+     * @param columnToEdit the column to decrement
+     * @param delta        the amount to subtract
+     * @param column       the column for the research
+     * @param value        the value to be searched in the column
+     * @throws SQLException SQLException
+     */
+    public void decrement(@NotNull String columnToEdit, @NotNull Number delta, @NotNull String column, Object value) throws SQLException {
+        sql().decrement(columnToEdit, delta, column, value);
+    }
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key columns must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param keyValues  the list of values of the key
+     * @param columns    the list of columns to edit
+     * @param values     the list of values to be assigned to the columns
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String[] keyColumns, Object[] keyValues, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().upsert(keyColumns, keyValues, columns, values);
+    }
+
+    /**
+     * Adds a line with the given key, or updates its columns if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param columns   the list of columns to edit
+     * @param values    the list of values to be assigned to the columns
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String keyColumn, Object keyValue, @NotNull String[] columns, Object[] values) throws SQLException {
+        sql().upsert(keyColumn, keyValue, columns, values);
+    }
+
+    /**
+     * Adds a line with the given key, or updates its column if a line with the same key exists,
+     * using a single statement. The key column must be the PRIMARY KEY or a UNIQUE index of the table.
+     *
+     * @param keyColumn the column of the key
+     * @param keyValue  the value of the key
+     * @param column    the column to edit
+     * @param value     the value to be assigned to the column
+     * @throws SQLException SQLException
+     */
+    public void upsert(@NotNull String keyColumn, Object keyValue, @NotNull String column, Object value) throws SQLException {
+        sql().upsert(keyColumn, keyValue, column, value);
+    }
+
+    /**
+     * Upserts many lines as a JDBC batch in a single transaction.
+     * The lines are written immediately even in write-behind mode and the whole read cache is invalidated.
+     *
+     * @param keyColumns the list of columns of the key
+     * @param columns    the list of columns to edit
+     * @param rows       the values of each line: the key values followed by the values of the columns
+     * @throws SQLException SQLException
+     */
+    public void upsertAll(@NotNull String[] keyColumns, @NotNull String[] columns, @NotNull Collection<Object[]> rows) throws SQLException {
+        sql().upsertAll(keyColumns, columns, rows);
+    }
+
+    /**
+     * The block of operations run in a transaction.
+     */
+    @FunctionalInterface
+    public interface Work {
+        void run(@NotNull Transaction tx) throws SQLException;
+    }
+}
@@ -0,0 +1,228 @@
+package it.revarmygaming.commonapi.db;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Queues the mutations of a {@link SQLImplementation} and writes them as JDBC batches.
+ *
+ * <p>Mutations are written in the order they were queued: consecutive mutations with the same statement
+ * shape form a run, written as one batch. They are flushed when the queue reaches the batch size or when
+ * the flush interval elapses. An update or a delete replaces the queued one with the same where values only
+ * if it belongs to the last run, since a mutation of another shape queued in between may touch the same line.
+ * A run that fails stays at the head of the queue and is written again by the next flush.</p>
+ *
+ * <p>A run rejected by the database {@value #MAXIMUM_ATTEMPTS} times, like a duplicate key, is written
+ * one mutation at a time: the mutations still rejected are dropped and logged, so they can't block the queue.
+ * Connection failures, timeouts and deadlocks are not counted, the run waits for the database instead.
+ * The queue holds at most {@value #CAPACITY_BATCHES} batches: when it is full, the thread queuing a mutation
+ * flushes the queue itself and gets the error if the flush fails.</p>
+ */
+class WriteBehind {
+
+    private static final Logger LOGGER = Logger.getLogger("RAGCore");
+    static final int MAXIMUM_ATTEMPTS = 3;
+    private static final int CAPACITY_BATCHES = 10;
+
+    private final SQLImplementation sql;
+    private final int batchSize;
+    private final int capacity;
+    private final ScheduledExecutorService scheduler;
+    private final Object flushLock = new Object();
+
+    private ArrayDeque<Run> pending = new ArrayDeque<>();
+    private int size = 0;
+    private boolean flushScheduled = false;
+    private boolean failing = false;
+
+    WriteBehind(SQLImplementation sql, int batchSize, long interval, @NotNull TimeUnit unit) {
+        if (batchSize < 1) throw new IllegalArgumentException("Batch size must be at least 1");
+        if (interval < 1) throw new IllegalArgumentException("Flush interval must be at least 1");
+
+        this.sql = sql;
+        this.batchSize = batchSize;
+        this.capacity = batchSize > Integer.MAX_VALUE / CAPACITY_BATCHES ? Integer.MAX_VALUE : batchSize * CAPACITY_BATCHES;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ragcore-sql-" + sql.getTable() + "-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, unit);
+    }
+
+    /**
+     * Queues a mutation.
+     *
+     * @param query        the parameterized query
+     * @param parameters   the parameters to bind to the query
+     * @param key          the key used to coalesce the mutation, or null to never coalesce it
+     * @param invalidation invalidates the cached reads touched by the mutation once it is written
+     * @throws SQLException the error thrown while flushing a full queue, the mutation is not queued
+     */
+    void add(@NotNull String query, Object[] parameters, Object key, @NotNull Runnable invalidation) throws SQLException {
+        if (size() >= capacity) flush();
+
+        boolean flush = false;
+        synchronized (this) {
+            Run run = pending.peekLast();
+            if (run == null || !run.query.equals(query)) {
+                run = new Run(query);
+                pending.addLast(run);
+            }
+            if (run.mutations.put(key == null ? new Object() : key, parameters) == null) size++;
+            run.invalidations.add(invalidation);
+
+            if (size >= batchSize && !flushScheduled && !failing) {
+                flushScheduled = true;
+                flush = true;
+            }
+        }
+
+        if (flush) scheduler.execute(this::flushQuietly);
+    }
+
+    /**
+     * Return the number of mutations waiting to be written.
+     *
+     * @return the number of pending mutations
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Writes every queued mutation to the database, in order. The writing stops at the first run that fails:
+     * that run and the following ones are queued again before the mutations added in the meantime.
+     * A run that failed too many times is written one mutation at a time, dropping the ones that fail.
+     *
+     * @throws SQLException the error thrown while writing
+     */
+    void flush() throws SQLException {
+        synchronized (flushLock) {
+            ArrayDeque<Run> runs;
+            synchronized (this) {
+                runs = pending;
+                pending = new ArrayDeque<>();
+                size = 0;
+                flushScheduled = false;
+            }
+
+            while (!runs.isEmpty()) {
+                Run run = runs.peekFirst();
+                try {
+                    if (run.attempts < MAXIMUM_ATTEMPTS) sql.batch(run.query, run.mutations.values());
+                    else writeEach(run);
+                } catch (SQLException e) {
+                    if (!isTransient(e)) run.attempts++;
+                    requeue(runs, true);
+                    throw e;
+                }
+                runs.pollFirst();
+
+                for (Runnable invalidation : run.invalidations) {
+                    invalidation.run();
+                }
+            }
+            requeue(runs, false);
+        }
+    }
+
+    /**
+     * Writes every queued mutation and stops the flush timer.
+     *
+     * @throws SQLException the first error thrown while writing
+     */
+    void shutdown() throws SQLException {
+        scheduler.shutdown();
+        flush();
+    }
+
+    /**
+     * Writes the mutations of a run one at a time, dropping the ones rejected by the database.
+     * The mutations written are removed from the run, so a transient failure keeps only the others.
+     */
+    private void writeEach(Run run) throws SQLException {
+        boolean written = false;
+        try {
+            Iterator<Object[]> iterator = run.mutations.values().iterator();
+            while (iterator.hasNext()) {
+                Object[] parameters = iterator.next();
+                try {
+                    sql.batch(run.query, Collections.singletonList(parameters));
+                    written = true;
+                } catch (SQLException e) {
+                    if (isTransient(e)) throw e;
+                    LOGGER.log(Level.SEVERE, "Dropped a queued mutation of `" + sql.getTable() + "` rejected "
+                            + MAXIMUM_ATTEMPTS + " times: " + run.query + " " + Arrays.toString(parameters), e);
+                }
+                iterator.remove();
+            }
+        } finally {
+            if (written) {
+                for (Runnable invalidation : run.invalidations) {
+                    invalidation.run();
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts the runs not written back at the head of the queue, and records whether the flush failed.
+     */
+    private synchronized void requeue(ArrayDeque<Run> runs, boolean failed) {
+        failing = failed;
+        if (runs.isEmpty()) return;
+
+        for (Run run : runs) {
+            size += run.mutations.size();
+        }
+        runs.addAll(pending);
+        pending = runs;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Could not write the queued mutations of `" + sql.getTable()
+                    + "`, they are written again by the next flush: " + e);
+        }
+    }
+
+    /**
+     * Return true if the exception comes from the connection or the load of the database rather than from
+     * the statement, so writing it again later can succeed.
+     *
+     * @param exception the exception thrown while writing
+     * @return true if the failure is transient
+     */
+    static boolean isTransient(SQLException exception) {
+        if (exception instanceof SQLTransientException || exception instanceof SQLRecoverableException) return true;
+        String state = exception.getSQLState();
+        if (state != null && state.startsWith("08")) return true;
+        return QueryMetrics.isTimeout(exception) || Transaction.isDeadlock(exception);
+    }
+
+    /**
+     * Consecutive mutations with the same statement shape.
+     */
+    private static class Run {
+        private final String query;
+        private final LinkedHashMap<Object, Object[]> mutations = new LinkedHashMap<>();
+        private final List<Runnable> invalidations = new ArrayList<>();
+        private int attempts = 0;
+
+        private Run(String query) {
+            this.query = query;
+        }
+    }
+}
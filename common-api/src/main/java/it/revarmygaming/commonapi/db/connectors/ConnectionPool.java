@@ -0,0 +1,194 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+import it.revarmygaming.commonapi.db.DBUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of physical connections, used by the connectors that can't rely on HikariCP.
+ *
+ * <p>Connections are opened lazily up to the maximum pool size and reused most recently used first,
+ * so the connections left over by a burst stay idle and expire. A connection idle for more than half
+ * a second is validated before it is handed out again.</p>
+ */
+class ConnectionPool {
+
+    private static final long VALIDATION_INTERVAL = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    private final Factory factory;
+    private final Semaphore permits;
+    private final int maximumPoolSize;
+    private final PoolMetrics metrics = new PoolMetrics();
+    private final long connectionTimeout;
+    private final long idleTimeout;
+    private final long maxLifetime;
+    private final Deque<Entry> idle = new ConcurrentLinkedDeque<>();
+    private volatile int generation = 0;
+
+    /**
+     * Creates a pool.
+     *
+     * @param factory           opens a new physical connection
+     * @param maximumPoolSize   the maximum number of connections in use at the same time
+     * @param connectionTimeout the maximum time in milliseconds waited for a free connection
+     * @param idleTimeout       the time in milliseconds after which an idle connection is closed, 0 to never close it
+     * @param maxLifetime       the time in milliseconds after which a connection is closed once given back, 0 to never close it
+     */
+    ConnectionPool(Factory factory, int maximumPoolSize, long connectionTimeout, long idleTimeout, long maxLifetime) {
+        if (maximumPoolSize < 1) throw new IllegalArgumentException("Maximum pool size must be at least 1");
+
+        this.factory = factory;
+        this.permits = new Semaphore(maximumPoolSize, true);
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeout = connectionTimeout;
+        this.idleTimeout = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+        this.maxLifetime = TimeUnit.MILLISECONDS.toNanos(maxLifetime);
+    }
+
+    /**
+     * Return a connection from the pool, waiting for one to be given back if the pool is full.
+     * Closing the returned Connection gives it back to the pool.
+     *
+     * @return a Connection
+     * @throws SQLException if the connection can't be opened or the connection timeout elapses
+     */
+    Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(connectionTimeout, TimeUnit.MILLISECONDS)) {
+                metrics.recordTimeout();
+                throw new SQLException("Timed out after " + connectionTimeout + "ms waiting for a connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+
+        try {
+            int generation = this.generation;
+            Entry entry;
+            while ((entry = idle.pollFirst()) != null) {
+                if (usable(entry)) break;
+                DBUtils.closeQuietly(entry.connection);
+            }
+            if (entry == null) {
+                entry = new Entry(factory.open());
+                metrics.recordCreated();
+            }
+
+            Entry checkedOut = entry;
+            long acquired = System.nanoTime();
+            metrics.recordAcquire(acquired - start);
+            return ConnectionProxy.wrap(entry.connection, connection -> {
+                metrics.recordUsage(System.nanoTime() - acquired);
+                release(checkedOut, generation);
+            });
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return the number of idle connections.
+     *
+     * @return the number of idle connections
+     */
+    int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Return the state of the pool.
+     *
+     * @param poolName the name of the pool
+     * @return the PoolStats
+     */
+    PoolStats stats(String poolName) {
+        int active = maximumPoolSize - permits.availablePermits();
+        int idle = this.idle.size();
+        return metrics.stats(poolName, active, idle, permits.getQueueLength(), active + idle, maximumPoolSize);
+    }
+
+    /**
+     * Closes the idle connections, the connections in use are closed when they are given back.
+     */
+    void shutdown() {
+        generation++;
+        Entry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            DBUtils.closeQuietly(entry.connection);
+        }
+    }
+
+    private boolean usable(Entry entry) {
+        long now = System.nanoTime();
+        try {
+            if (entry.connection.isClosed() || expired(entry, now)) return false;
+            return now - entry.lastUsed < VALIDATION_INTERVAL || entry.connection.isValid(VALIDATION_TIMEOUT);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return (idleTimeout > 0 && now - entry.lastUsed > idleTimeout) ||
+                (maxLifetime > 0 && now - entry.created > maxLifetime);
+    }
+
+    private void release(Entry entry, int generation) {
+        try {
+            long now = System.nanoTime();
+            if (generation != this.generation || entry.connection.isClosed() || (maxLifetime > 0 && now - entry.created > maxLifetime)) {
+                DBUtils.closeQuietly(entry.connection);
+                return;
+            }
+            if (!entry.connection.getAutoCommit()) {
+                entry.connection.rollback();
+                entry.connection.setAutoCommit(true);
+            }
+            entry.lastUsed = now;
+            idle.offerFirst(entry);
+        } catch (SQLException e) {
+            DBUtils.closeQuietly(entry.connection);
+        } finally {
+            permits.release();
+            evictIdle();
+        }
+    }
+
+    private void evictIdle() {
+        if (idleTimeout <= 0) return;
+        long now = System.nanoTime();
+        Iterator<Entry> iterator = idle.descendingIterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (now - entry.lastUsed <= idleTimeout) return;
+            if (idle.removeFirstOccurrence(entry)) DBUtils.closeQuietly(entry.connection);
+        }
+    }
+
+    @FunctionalInterface
+    interface Factory {
+        Connection open() throws SQLException;
+    }
+
+    private static class Entry {
+        private final Connection connection;
+        private final long created;
+        private volatile long lastUsed;
+
+        private Entry(Connection connection) {
+            this.connection = connection;
+            this.created = System.nanoTime();
+            this.lastUsed = created;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wraps a reused physical Connection so that closing it gives it back to its owner instead of closing it.
+ */
+final class ConnectionProxy implements InvocationHandler {
+
+    private final Connection connection;
+    private final Release release;
+    private final boolean joined;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private ConnectionProxy(Connection connection, Release release, boolean joined) {
+        this.connection = connection;
+        this.release = release;
+        this.joined = joined;
+    }
+
+    /**
+     * Return a Connection delegating to the given one, calling the release once when it is closed.
+     * Every call after the close, except close and isClosed, throws a SQLException.
+     *
+     * @param connection the physical connection
+     * @param release    called with the physical connection when the returned one is closed
+     * @return the wrapped Connection
+     */
+    static Connection wrap(Connection connection, Release release) {
+        return wrap(connection, release, false);
+    }
+
+    /**
+     * Return a Connection delegating to the given one, which is in a transaction of another holder.
+     * Ending the transaction or changing the auto-commit mode on it has no effect, so the work done on it
+     * is committed or rolled back with the transaction.
+     *
+     * @param connection the physical connection
+     * @param release    called with the physical connection when the returned one is closed
+     * @return the wrapped Connection
+     */
+    static Connection join(Connection connection, Release release) {
+        return wrap(connection, release, true);
+    }
+
+    private static Connection wrap(Connection connection, Release release, boolean joined) {
+        return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionProxy(connection, release, joined));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "close":
+                if (closed.compareAndSet(false, true)) {
+                    release.release(connection);
+                }
+                return null;
+            case "isClosed":
+                return closed.get() || connection.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "ConnectionProxy{" + connection + (closed.get() ? ", closed" : "") + "}";
+        }
+
+        if (closed.get()) throw new SQLException("Connection is closed");
+        if (joined) {
+            switch (method.getName()) {
+                case "rollback":
+                    if (args != null) break;
+                case "commit":
+                case "setAutoCommit":
+                    return null;
+            }
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    interface Release {
+        void release(Connection connection) throws SQLException;
+    }
+}
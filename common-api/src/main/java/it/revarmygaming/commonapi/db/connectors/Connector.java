@@ -6,5 +6,26 @@ import java.sql.SQLException;
 public interface Connector {
 
     Connection connect() throws SQLException;
+
+    /**
+     * Return a Connection used only to read.
+     * Connectors keeping separate connections for reads override it, the others return {@link #connect()}.
+     *
+     * @return a Connection used to read
+     * @throws SQLException SQLException
+     */
+    default Connection connectReadOnly() throws SQLException {
+        return connect();
+    }
+
+    /**
+     * Return the state of the connection pool of this connector.
+     *
+     * @return the PoolStats, or null if the connector has no pool
+     */
+    default PoolStats getPoolStats() {
+        return null;
+    }
+
     void shutdown();
 }
@@ -0,0 +1,109 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * A connector to an H2 database, in memory or in a file, to run the plugins and their tests without a server.
+ *
+ * <p>The H2 driver is not shaded in RAGCore, it must be on the classpath. The database runs in the MySQL
+ * compatibility mode with lower case and case insensitive identifiers, so the raw queries written for MySQL work
+ * unchanged: the tables created with backticks or without quotes are found by the double quoted names of the
+ * statements built by RAGCore, whatever their case. These options are added to the urls that don't set them.
+ * An in-memory database lives until the JVM exits, every connector with the same name shares it.</p>
+ */
+public class H2Connector implements Connector {
+
+    private static final String[] OPTIONS = {"MODE=MySQL", "DATABASE_TO_LOWER=TRUE", "CASE_INSENSITIVE_IDENTIFIERS=TRUE"};
+
+    private final String url;
+    private final PoolSettings poolSettings;
+    private volatile ConnectionPool pool;
+
+    /**
+     * Creates a connector.
+     *
+     * @param url          the JDBC url of the database (ex. jdbc:h2:mem:test), the missing compatibility options are added
+     * @param poolSettings the settings of the pool
+     */
+    public H2Connector(String url, PoolSettings poolSettings) {
+        this.url = withOptions(url);
+        this.poolSettings = poolSettings;
+        this.pool = createPool();
+    }
+
+    /**
+     * Return the JDBC url of an in-memory database.
+     *
+     * @param name the name of the database
+     * @return the JDBC url
+     */
+    public static String memory(String name) {
+        return withOptions("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    }
+
+    /**
+     * Return the JDBC url of a database stored in a file.
+     *
+     * @param path the path of the file, without the .mv.db extension
+     * @return the JDBC url
+     */
+    public static String file(String path) {
+        return withOptions("jdbc:h2:file:" + path);
+    }
+
+    /**
+     * Return the url with the compatibility options it doesn't set, the options set by the url are kept.
+     *
+     * @param url the JDBC url
+     * @return the JDBC url with the options
+     */
+    private static String withOptions(String url) {
+        String settings = url.toUpperCase(Locale.ROOT);
+        StringBuilder result = new StringBuilder(url);
+        for (String option : OPTIONS) {
+            String name = option.substring(0, option.indexOf('=') + 1);
+            if (!settings.contains(";" + name)) result.append(';').append(option);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public Connection connect() throws SQLException {
+        return pool.getConnection();
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        return pool.stats(poolSettings.getPoolName());
+    }
+
+    /**
+     * Closes the idle connections of the pool, the next call to connect opens new ones.
+     */
+    @Override
+    public void shutdown() {
+        ConnectionPool pool = this.pool;
+        this.pool = createPool();
+        pool.shutdown();
+    }
+
+    private ConnectionPool createPool() {
+        return new ConnectionPool(this::open,
+                poolSettings.getMaximumPoolSize(),
+                poolSettings.getConnectionTimeout(),
+                poolSettings.getIdleTimeout(),
+                poolSettings.getMaxLifetime());
+    }
+
+    private Connection open() throws SQLException {
+        try {
+            Class.forName("org.h2.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new SQLException("The H2 driver is not on the classpath", e);
+        }
+        return DriverManager.getConnection(url);
+    }
+}
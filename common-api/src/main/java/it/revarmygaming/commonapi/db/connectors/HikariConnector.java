@@ -2,15 +2,19 @@ package it.revarmygaming.commonapi.db.connectors;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class HikariConnector implements Connector {
 
     private PoolSettings poolSettings;
     private HikariDataSource dataSource;
+    private final PoolMetrics metrics = new PoolMetrics();
 
     public HikariConnector(String host, int port, String database, String user, String password, String driver, PoolSettings poolSettings) {
         this.poolSettings = poolSettings;
@@ -37,10 +41,32 @@ public class HikariConnector implements Connector {
             config.addDataSourceProperty(property.getKey(), property.getValue());
         }
 
-        for (Map.Entry<String, String> property : poolSettings.getDataSourceProperties().entrySet()) {
+        for (Map.Entry<String, String> property : poolSettings.getHealthCheckProperties().entrySet()) {
             config.addHealthCheckProperty(property.getKey(), property.getValue());
         }
 
+        config.setMetricsTrackerFactory((poolName, poolStats) -> new IMetricsTracker() {
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                metrics.recordCreated();
+            }
+
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                metrics.recordAcquire(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                metrics.recordUsage(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                metrics.recordTimeout();
+            }
+        });
+
         dataSource = new HikariDataSource(config);
     }
 
@@ -63,6 +89,23 @@ public class HikariConnector implements Connector {
         return connection;
     }
 
+    /**
+     * Return the state of the HikariCP pool, the histograms are fed by its MetricsTrackerFactory.
+     *
+     * @return the PoolStats
+     */
+    @Override
+    public PoolStats getPoolStats() {
+        HikariPoolMXBean pool = dataSource == null ? null : dataSource.getHikariPoolMXBean();
+        if (pool == null) return metrics.stats(poolSettings.getPoolName(), 0, 0, 0, 0, poolSettings.getMaximumPoolSize());
+        return metrics.stats(poolSettings.getPoolName(),
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getThreadsAwaitingConnection(),
+                pool.getTotalConnections(),
+                poolSettings.getMaximumPoolSize());
+    }
+
     @Override
     public void shutdown() {
         if (dataSource != null) {
@@ -3,7 +3,16 @@ package it.revarmygaming.commonapi.db.connectors;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
 
+/**
+ * A MySQL connector for the deployments that can't use HikariCP.
+ *
+ * <p>Connections are kept in a small built-in pool sized by the {@link PoolSettings},
+ * so a query does not pay a TCP handshake and an authentication. The data source properties of the
+ * settings are passed to the driver, by default they enable its per-connection prepared statement cache.</p>
+ */
 public class MySqlConnector implements Connector {
 
     private String host;
@@ -11,34 +20,72 @@ public class MySqlConnector implements Connector {
     private String database;
     private String user;
     private String password;
+    private PoolSettings poolSettings;
+    private volatile ConnectionPool pool;
 
-    public MySqlConnector(String host, int port, String database, String user, String password) {
+    public MySqlConnector(String host, int port, String database, String user, String password, PoolSettings poolSettings) {
         this.host = host;
         this.port = port;
         this.database = database;
         this.user = user;
         this.password = password;
+        this.poolSettings = poolSettings;
+        this.pool = createPool();
+    }
+
+    public MySqlConnector(String host, int port, String database, String user, String password) {
+        this(host, port, database, user, password, new PoolSettings());
     }
 
     @Override
     public Connection connect() throws SQLException {
-        try {
-            Class.forName("com.mysql.jdbc.Driver");
-            Connection connection = DriverManager.getConnection("jdbc:mysql://" +
-                    host + ":" + port +
-                    "/" + database +
-                    "?zeroDateTimeBehavior=convertToNull&amp;characterEncoding=utf8mb4", user, password);
+        return pool.getConnection();
+    }
+
+    @Override
+    public PoolStats getPoolStats() {
+        return pool.stats(poolSettings.getPoolName());
+    }
+
+    /**
+     * Closes the idle connections of the pool, the next call to connect opens new ones.
+     */
+    @Override
+    public void shutdown() {
+        ConnectionPool pool = this.pool;
+        this.pool = createPool();
+        pool.shutdown();
+    }
 
-            if (connection == null)
-                throw new SQLException("Unable to establish a connection with the database");
+    private ConnectionPool createPool() {
+        return new ConnectionPool(this::open,
+                poolSettings.getMaximumPoolSize(),
+                poolSettings.getConnectionTimeout(),
+                poolSettings.getIdleTimeout(),
+                poolSettings.getMaxLifetime());
+    }
 
-            return connection;
+    private Connection open() throws SQLException {
+        try {
+            Class.forName("com.mysql.jdbc.Driver");
         } catch (ClassNotFoundException e) {
             throw new SQLException(e);
         }
-    }
 
-    @Override
-    public void shutdown() {
+        Properties properties = new Properties();
+        for (Map.Entry<String, String> property : poolSettings.getDataSourceProperties().entrySet()) {
+            properties.setProperty(property.getKey(), property.getValue());
+        }
+        properties.setProperty("user", user);
+        properties.setProperty("password", password);
+
+        Connection connection = DriverManager.getConnection("jdbc:mysql://" +
+                host + ":" + port +
+                "/" + database, properties);
+
+        if (connection == null)
+            throw new SQLException("Unable to establish a connection with the database");
+
+        return connection;
     }
 }
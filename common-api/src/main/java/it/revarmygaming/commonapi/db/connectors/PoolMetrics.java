@@ -0,0 +1,40 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+import it.revarmygaming.commonapi.db.LatencyHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the acquire time, the usage time and the timeouts of a connection pool.
+ */
+class PoolMetrics {
+
+    private final LatencyHistogram acquire = new LatencyHistogram();
+    private final LatencyHistogram usage = new LatencyHistogram();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder created = new LongAdder();
+
+    void recordAcquire(long nanos) {
+        acquire.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    void recordUsage(long nanos) {
+        usage.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordCreated() {
+        created.increment();
+    }
+
+    PoolStats stats(String poolName, int active, int idle, int pending, int total, int maximum) {
+        return new PoolStats(poolName, active, idle, pending, total, maximum,
+                acquire.getPercentile(0.5), acquire.getPercentile(0.99), acquire.getMax(),
+                usage.getPercentile(0.5), usage.getPercentile(0.99), usage.getMax(),
+                timeouts.sum(), created.sum());
+    }
+}
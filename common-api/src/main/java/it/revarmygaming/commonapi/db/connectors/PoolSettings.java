@@ -14,6 +14,7 @@ public class PoolSettings {
     private long idleTimeout = 100000;
     private long maxLifetime = 900000;
     private long leakDetectionThreshold = 60000;
+    private int asyncQueueSize = 1000;
     private HashMap<String, String> dataSourceProperties = new HashMap<>();
     private HashMap<String, String> healthCheckProperties = new HashMap<>();
 
@@ -35,6 +36,25 @@ public class PoolSettings {
         dataSourceProperties.put("zeroDateTimeBehavior", "convertToNull");
     }
 
+    /**
+     * Creates a copy of the given settings.
+     *
+     * @param settings the settings to copy
+     */
+    public PoolSettings(@NotNull PoolSettings settings) {
+        this.poolName = settings.poolName;
+        this.maximumPoolSize = settings.maximumPoolSize;
+        this.minimumIdle = settings.minimumIdle;
+        this.initializationFailTimeout = settings.initializationFailTimeout;
+        this.connectionTimeout = settings.connectionTimeout;
+        this.idleTimeout = settings.idleTimeout;
+        this.maxLifetime = settings.maxLifetime;
+        this.leakDetectionThreshold = settings.leakDetectionThreshold;
+        this.asyncQueueSize = settings.asyncQueueSize;
+        this.dataSourceProperties = new HashMap<>(settings.dataSourceProperties);
+        this.healthCheckProperties = new HashMap<>(settings.healthCheckProperties);
+    }
+
     public String getPoolName() {
         return poolName;
     }
@@ -99,6 +119,14 @@ public class PoolSettings {
         this.leakDetectionThreshold = leakDetectionThreshold;
     }
 
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
     public HashMap<String, String> getDataSourceProperties() {
         return dataSourceProperties;
     }
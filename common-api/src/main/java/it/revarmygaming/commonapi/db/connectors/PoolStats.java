@@ -0,0 +1,184 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+/**
+ * A snapshot of the state of a connection pool.
+ * Durations are in microseconds.
+ */
+public class PoolStats {
+
+    private final String poolName;
+    private final int active;
+    private final int idle;
+    private final int pending;
+    private final int total;
+    private final int maximum;
+    private final long acquireP50;
+    private final long acquireP99;
+    private final long acquireMax;
+    private final long usageP50;
+    private final long usageP99;
+    private final long usageMax;
+    private final long timeouts;
+    private final long created;
+
+    public PoolStats(String poolName, int active, int idle, int pending, int total, int maximum,
+                     long acquireP50, long acquireP99, long acquireMax,
+                     long usageP50, long usageP99, long usageMax,
+                     long timeouts, long created) {
+        this.poolName = poolName;
+        this.active = active;
+        this.idle = idle;
+        this.pending = pending;
+        this.total = total;
+        this.maximum = maximum;
+        this.acquireP50 = acquireP50;
+        this.acquireP99 = acquireP99;
+        this.acquireMax = acquireMax;
+        this.usageP50 = usageP50;
+        this.usageP99 = usageP99;
+        this.usageMax = usageMax;
+        this.timeouts = timeouts;
+        this.created = created;
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Return the number of connections in use.
+     *
+     * @return the number of active connections
+     */
+    public int getActive() {
+        return active;
+    }
+
+    /**
+     * Return the number of open connections waiting to be used.
+     *
+     * @return the number of idle connections
+     */
+    public int getIdle() {
+        return idle;
+    }
+
+    /**
+     * Return the number of threads waiting for a connection.
+     *
+     * @return the number of pending threads
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Return the number of open connections.
+     *
+     * @return the number of connections
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Return the maximum number of connections of the pool.
+     *
+     * @return the maximum pool size
+     */
+    public int getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Return the median time waited to get a connection.
+     *
+     * @return the 50th percentile in microseconds
+     */
+    public long getAcquireP50() {
+        return acquireP50;
+    }
+
+    /**
+     * Return the 99th percentile of the time waited to get a connection.
+     *
+     * @return the 99th percentile in microseconds
+     */
+    public long getAcquireP99() {
+        return acquireP99;
+    }
+
+    /**
+     * Return the longest time waited to get a connection.
+     *
+     * @return the maximum in microseconds
+     */
+    public long getAcquireMax() {
+        return acquireMax;
+    }
+
+    /**
+     * Return the median time a connection is kept before being given back.
+     *
+     * @return the 50th percentile in microseconds
+     */
+    public long getUsageP50() {
+        return usageP50;
+    }
+
+    /**
+     * Return the 99th percentile of the time a connection is kept before being given back.
+     *
+     * @return the 99th percentile in microseconds
+     */
+    public long getUsageP99() {
+        return usageP99;
+    }
+
+    /**
+     * Return the longest time a connection was kept before being given back.
+     *
+     * @return the maximum in microseconds
+     */
+    public long getUsageMax() {
+        return usageMax;
+    }
+
+    /**
+     * Return the number of times a thread gave up waiting for a connection.
+     *
+     * @return the number of timeouts
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /**
+     * Return the number of physical connections opened.
+     *
+     * @return the number of connections created
+     */
+    public long getCreated() {
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolStats{" +
+                "poolName='" + poolName + '\'' +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", pending=" + pending +
+                ", total=" + total +
+                ", maximum=" + maximum +
+                ", acquireP50=" + acquireP50 +
+                ", acquireP99=" + acquireP99 +
+                ", acquireMax=" + acquireMax +
+                ", usageP50=" + usageP50 +
+                ", usageP99=" + usageP99 +
+                ", usageMax=" + usageMax +
+                ", timeouts=" + timeouts +
+                ", created=" + created +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+/**
+ * How a {@link ReplicatedConnector} chooses the replica serving a read.
+ */
+public enum ReplicaPolicy {
+
+    /**
+     * Every replica in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The replica with the fewest connections in use by this connector.
+     */
+    LEAST_PENDING
+}
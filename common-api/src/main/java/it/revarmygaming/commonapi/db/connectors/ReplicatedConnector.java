@@ -0,0 +1,140 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A connector sending the writes to a primary database and the reads to its replicas.
+ *
+ * <p>A replica that fails to give a connection is skipped for a few seconds, the reads fall back
+ * to the primary when no replica is available.</p>
+ */
+public class ReplicatedConnector implements Connector {
+
+    private static final long RETRY_DELAY = TimeUnit.SECONDS.toNanos(5);
+
+    private final Connector primary;
+    private final Connector[] replicas;
+    private final ReplicaPolicy policy;
+    private final AtomicInteger[] pending;
+    private final AtomicLongArray downUntil;
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Creates a connector.
+     *
+     * @param primary  the connector of the primary database, used for every write
+     * @param replicas the connectors of the replicas, used for the reads
+     * @param policy   how the replica of a read is chosen
+     */
+    public ReplicatedConnector(@NotNull Connector primary, @NotNull List<Connector> replicas, @NotNull ReplicaPolicy policy) {
+        this.primary = primary;
+        this.replicas = replicas.toArray(new Connector[0]);
+        this.policy = policy;
+        this.pending = new AtomicInteger[this.replicas.length];
+        this.downUntil = new AtomicLongArray(this.replicas.length);
+        for (int i = 0; i < pending.length; i++) {
+            pending[i] = new AtomicInteger();
+        }
+    }
+
+    @Override
+    public Connection connect() throws SQLException {
+        return primary.connect();
+    }
+
+    /**
+     * Return a Connection to a replica, or to the primary if no replica is available.
+     *
+     * @return a Connection used to read
+     * @throws SQLException if neither a replica nor the primary give a connection
+     */
+    @Override
+    public Connection connectReadOnly() throws SQLException {
+        if (replicas.length == 0) return primary.connectReadOnly();
+
+        int first = choose();
+        SQLException failure = null;
+        for (int i = 0; i < replicas.length; i++) {
+            int index = (first + i) % replicas.length;
+            if (i > 0 && isDown(index)) continue;
+
+            AtomicInteger counter = pending[index];
+            counter.incrementAndGet();
+            try {
+                Connection connection = replicas[index].connectReadOnly();
+                downUntil.set(index, 0);
+                return ConnectionProxy.wrap(connection, physical -> {
+                    counter.decrementAndGet();
+                    physical.close();
+                });
+            } catch (SQLException e) {
+                counter.decrementAndGet();
+                downUntil.set(index, System.nanoTime() + RETRY_DELAY);
+                if (failure == null) failure = e;
+                else failure.addSuppressed(e);
+            }
+        }
+
+        try {
+            return primary.connect();
+        } catch (SQLException e) {
+            if (failure != null) e.addSuppressed(failure);
+            throw e;
+        }
+    }
+
+    /**
+     * Return the state of the connection pool of the primary.
+     *
+     * @return the PoolStats, or null if the primary connector has no pool
+     */
+    @Override
+    public PoolStats getPoolStats() {
+        return primary.getPoolStats();
+    }
+
+    /**
+     * Return the number of connections of each replica in use by this connector.
+     *
+     * @return the number of pending connections, in the order of the replicas
+     */
+    public int[] getPendingReads() {
+        int[] counts = new int[pending.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = pending[i].get();
+        }
+        return counts;
+    }
+
+    @Override
+    public void shutdown() {
+        primary.shutdown();
+        for (Connector replica : replicas) {
+            replica.shutdown();
+        }
+    }
+
+    private int choose() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.length);
+        int chosen = -1;
+        for (int i = 0; i < replicas.length; i++) {
+            int index = (start + i) % replicas.length;
+            if (isDown(index)) continue;
+            if (policy == ReplicaPolicy.ROUND_ROBIN) return index;
+            if (chosen == -1 || pending[index].get() < pending[chosen].get()) chosen = index;
+        }
+        return chosen == -1 ? start : chosen;
+    }
+
+    private boolean isDown(int index) {
+        long until = downUntil.get(index);
+        return until != 0 && until - System.nanoTime() > 0;
+    }
+}
@@ -1,21 +1,212 @@
 package it.revarmygaming.commonapi.db.connectors;
 
+import it.revarmygaming.commonapi.db.DBUtils;
+
 import java.io.File;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * A SQLite connector keeping a single long-lived writer connection and a small pool of reader connections.
+ *
+ * <p>SQLite allows one writer at a time, so {@link #connect()} hands out the writer connection
+ * to one thread at a time, in the order they asked for it. With the WAL journal the readers returned by
+ * {@link #connectReadOnly()} run while the writer is writing. Closing a returned Connection gives it back
+ * to the connector, the physical connections are closed only by {@link #shutdown()}.</p>
+ *
+ * <p>The writer connection can be given back by any thread, so a result read from it can be closed by
+ * another thread. It is reentrant: a thread already holding it gets it again at once, for example to write
+ * from the handler of a stream or to read while the reader pool size is 0. The writer is given back to the
+ * others once every Connection returned to the thread is closed. A Connection returned while the writer is in
+ * a transaction joins it, ending the transaction on it has no effect.</p>
+ */
 public class SQLiteConnector implements Connector {
 
     private File database;
+    private SQLiteSettings settings;
 
-    public SQLiteConnector(File database) {
+    private final Semaphore writerPermit = new Semaphore(1, true);
+    private final Semaphore readerPermits;
+    private final Deque<Connection> idleReaders = new ConcurrentLinkedDeque<>();
+    private final Object writerLock = new Object();
+    private volatile Connection writer;
+    private Thread writerOwner;
+    private int writerHolds = 0;
+    private volatile int generation = 0;
+
+    public SQLiteConnector(File database, SQLiteSettings settings) {
         this.database = database;
+        this.settings = settings;
+        this.readerPermits = new Semaphore(Math.max(1, settings.getReaderPoolSize()), true);
+    }
+
+    public SQLiteConnector(File database) {
+        this(database, new SQLiteSettings());
+    }
+
+    public SQLiteSettings getSettings() {
+        return settings;
     }
 
+    /**
+     * Return the writer connection, waiting until the thread holding it closes it.
+     * The thread holding the writer gets it again without waiting.
+     *
+     * @return the writer Connection
+     * @throws SQLException if the connection can't be opened or the busy timeout elapses
+     */
     @Override
     public Connection connect() throws SQLException {
+        Connection nested = connectNested();
+        if (nested != null) return nested;
+
+        try {
+            if (!writerPermit.tryAcquire(settings.getBusyTimeout(), TimeUnit.MILLISECONDS))
+                throw new SQLException("Timed out waiting for the SQLite writer connection");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+
+        try {
+            Connection writer = this.writer;
+            if (writer == null || writer.isClosed()) {
+                writer = open(false);
+                this.writer = writer;
+            }
+            synchronized (writerLock) {
+                writerOwner = Thread.currentThread();
+                writerHolds = 1;
+            }
+            return ConnectionProxy.wrap(writer, this::releaseWriter);
+        } catch (SQLException | RuntimeException e) {
+            writerPermit.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Return the writer again if the current thread holds it.
+     *
+     * @return the writer Connection, or null if the current thread doesn't hold it
+     * @throws SQLException if the auto-commit mode of the writer can't be read
+     */
+    private Connection connectNested() throws SQLException {
+        synchronized (writerLock) {
+            if (writerOwner != Thread.currentThread()) return null;
+            Connection writer = this.writer;
+            Connection nested = writer.getAutoCommit()
+                    ? ConnectionProxy.wrap(writer, this::releaseWriter)
+                    : ConnectionProxy.join(writer, this::releaseWriter);
+            writerHolds++;
+            return nested;
+        }
+    }
+
+    /**
+     * Return a reader connection from the pool, opening a new one if none is idle.
+     * The writer connection is returned if the reader pool size is 0.
+     *
+     * @return a read-only Connection
+     * @throws SQLException if the connection can't be opened or the busy timeout elapses
+     */
+    @Override
+    public Connection connectReadOnly() throws SQLException {
+        if (settings.getReaderPoolSize() <= 0) return connect();
+
+        try {
+            if (!readerPermits.tryAcquire(settings.getBusyTimeout(), TimeUnit.MILLISECONDS))
+                throw new SQLException("Timed out waiting for a SQLite reader connection");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+
+        try {
+            int generation = this.generation;
+            Connection reader = idleReaders.pollFirst();
+            if (reader == null || reader.isClosed()) {
+                if (writer == null) connect().close();
+                reader = open(true);
+            }
+            return ConnectionProxy.wrap(reader, connection -> releaseReader(connection, generation));
+        } catch (SQLException | RuntimeException e) {
+            readerPermits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Closes the writer and the idle readers. The connections in use are closed when they are given back,
+     * the next call to connect opens new ones. The writer is closed even if it is not given back within the busy timeout.
+     */
+    @Override
+    public void shutdown() {
+        generation++;
+        Connection reader;
+        while ((reader = idleReaders.pollFirst()) != null) {
+            DBUtils.closeQuietly(reader);
+        }
+
+        boolean acquired = false;
+        try {
+            acquired = writerPermit.tryAcquire(settings.getBusyTimeout(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            if (writer != null) DBUtils.closeQuietly(writer);
+            writer = null;
+        } finally {
+            if (acquired) writerPermit.release();
+        }
+    }
+
+    private void releaseWriter(Connection connection) throws SQLException {
+        synchronized (writerLock) {
+            // The thread holding the writer may still use it, the last Connection closed gives it back.
+            if (--writerHolds > 0) return;
+            writerOwner = null;
+        }
+        try {
+            if (!connection.isClosed() && !connection.getAutoCommit()) {
+                try {
+                    connection.rollback();
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            }
+        } finally {
+            writerPermit.release();
+        }
+    }
+
+    private void releaseReader(Connection connection, int generation) {
+        try {
+            if (generation != this.generation || connection.isClosed()) {
+                DBUtils.closeQuietly(connection);
+                return;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            idleReaders.offerFirst(connection);
+        } catch (SQLException e) {
+            DBUtils.closeQuietly(connection);
+        } finally {
+            readerPermits.release();
+        }
+    }
+
+    private Connection open(boolean reader) throws SQLException {
         if (database == null) throw new NullPointerException("Database file can't be null");
         if (!database.exists() || !database.isFile()) {
             try {
@@ -31,12 +222,23 @@ public class SQLiteConnector implements Connector {
             throw new SQLException(e);
         }
 
-        //return org.sqlite.JDBC.createConnection("jdbc:sqlite:" + database, new java.util.Properties());
-        return DriverManager.getConnection("jdbc:sqlite:" + database);
-    }
-
-    @Override
-    public void shutdown() {
-
+        Connection connection = DriverManager.getConnection("jdbc:sqlite:" + database);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA busy_timeout = " + settings.getBusyTimeout());
+            if (!reader) {
+                statement.execute("PRAGMA journal_mode = " + settings.getJournalMode());
+            }
+            statement.execute("PRAGMA synchronous = " + settings.getSynchronous());
+            statement.execute("PRAGMA mmap_size = " + settings.getMmapSize());
+            statement.execute("PRAGMA cache_size = " + settings.getCacheSize());
+            statement.execute("PRAGMA temp_store = " + settings.getTempStore());
+            if (reader) {
+                statement.execute("PRAGMA query_only = ON");
+            }
+        } catch (SQLException e) {
+            DBUtils.closeQuietly(connection);
+            throw e;
+        }
+        return connection;
     }
 }
@@ -0,0 +1,112 @@
+package it.revarmygaming.commonapi.db.connectors;
+
+public class SQLiteSettings {
+
+    private String journalMode = "WAL";
+    private String synchronous = "NORMAL";
+    private long mmapSize = 268435456;
+    private int cacheSize = -16000;
+    private String tempStore = "MEMORY";
+    private int busyTimeout = 5000;
+    private int readerPoolSize = 4;
+    private int asyncQueueSize = 1000;
+
+    public String getJournalMode() {
+        return journalMode;
+    }
+
+    /**
+     * Sets the journal_mode pragma, WAL lets the readers run while the writer is writing.
+     *
+     * @param journalMode the journal mode (ex. WAL, DELETE, TRUNCATE)
+     */
+    public void setJournalMode(String journalMode) {
+        this.journalMode = journalMode;
+    }
+
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * Sets the synchronous pragma, NORMAL is safe in WAL mode and avoids a sync on every commit.
+     *
+     * @param synchronous the synchronous mode (ex. OFF, NORMAL, FULL)
+     */
+    public void setSynchronous(String synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    public long getMmapSize() {
+        return mmapSize;
+    }
+
+    /**
+     * Sets the mmap_size pragma, the number of bytes of the database read through memory mapping.
+     *
+     * @param mmapSize the size in bytes, 0 disables memory mapping
+     */
+    public void setMmapSize(long mmapSize) {
+        this.mmapSize = mmapSize;
+    }
+
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Sets the cache_size pragma of every connection.
+     *
+     * @param cacheSize the number of pages if positive, the size in KiB if negative
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    public String getTempStore() {
+        return tempStore;
+    }
+
+    /**
+     * Sets the temp_store pragma, where temporary tables and indices are kept.
+     *
+     * @param tempStore the temp store (ex. DEFAULT, FILE, MEMORY)
+     */
+    public void setTempStore(String tempStore) {
+        this.tempStore = tempStore;
+    }
+
+    public int getBusyTimeout() {
+        return busyTimeout;
+    }
+
+    /**
+     * Sets the time waited for a lock on the database or for a free connection before failing.
+     *
+     * @param busyTimeout the timeout in milliseconds
+     */
+    public void setBusyTimeout(int busyTimeout) {
+        this.busyTimeout = busyTimeout;
+    }
+
+    public int getReaderPoolSize() {
+        return readerPoolSize;
+    }
+
+    /**
+     * Sets the maximum number of connections used to read, 0 makes the reads use the writer connection.
+     *
+     * @param readerPoolSize the number of reader connections
+     */
+    public void setReaderPoolSize(int readerPoolSize) {
+        this.readerPoolSize = readerPoolSize;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+}
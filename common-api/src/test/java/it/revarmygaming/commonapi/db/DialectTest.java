@@ -0,0 +1,133 @@
+package it.revarmygaming.commonapi.db;
+
+import it.revarmygaming.commonapi.db.connectors.H2Connector;
+import it.revarmygaming.commonapi.db.connectors.PoolSettings;
+import org.junit.Test;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Runs the statements built by {@link StatementCache} on each dialect. SQLite and H2 run in memory, the MySQL
+ * statements run on H2 in the MySQL compatibility mode.
+ */
+public class DialectTest {
+
+    private static final String[] COLUMNS = {
+            "`uuid` VARCHAR(36) NOT NULL PRIMARY KEY",
+            "`playerName` VARCHAR(16)",
+            "`team` VARCHAR(16)",
+            "`kills` INT"
+    };
+
+    @Test
+    public void mysql() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:dialect_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE")) {
+            run(connection, Dialect.MYSQL);
+        }
+    }
+
+    @Test
+    public void sqlite() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+            run(connection, Dialect.SQLITE);
+        }
+    }
+
+    @Test
+    public void h2() throws SQLException {
+        H2Connector connector = new H2Connector(H2Connector.memory("dialect_h2"), new PoolSettings());
+        try (Connection connection = connector.connect()) {
+            run(connection, Dialect.H2);
+        } finally {
+            connector.shutdown();
+        }
+    }
+
+    @Test
+    public void h2CustomUrl() throws SQLException {
+        H2Connector connector = new H2Connector("jdbc:h2:mem:dialect_custom;DB_CLOSE_DELAY=-1", new PoolSettings());
+        try (Connection connection = connector.connect()) {
+            run(connection, Dialect.H2);
+        } finally {
+            connector.shutdown();
+        }
+    }
+
+    @Test
+    public void mysqlSyntax() {
+        StatementCache statements = new StatementCache("Players", Dialect.MYSQL);
+        assertEquals("SELECT `playerName` FROM `Players` WHERE (`uuid` = ? AND `team` IS NULL);",
+                statements.select(new String[]{"uuid", "team"}, new Object[]{"a", null}, "playerName"));
+        assertEquals("UPDATE `Players` SET `kills` = `kills` + ? WHERE (`uuid` = ?);",
+                statements.increment(new String[]{"kills"}, new String[]{"uuid"}, new Object[]{"a"}));
+    }
+
+    /**
+     * Creates the table with backticks and mixed case names, as the plugins do, then runs every shape on it.
+     */
+    private static void run(Connection connection, Dialect dialect) throws SQLException {
+        execute(connection, dialect.createTable("Players", COLUMNS, null));
+        StatementCache statements = new StatementCache("Players", dialect);
+
+        String upsert = statements.upsert(new String[]{"uuid"}, new String[]{"playerName", "team", "kills"});
+        execute(connection, upsert, "a", "Alice", "red", 1);
+        execute(connection, upsert, "b", "Bob", "red", 2);
+        execute(connection, upsert, "c", "Carol", "blue", 3);
+        execute(connection, upsert, "a", "Alicia", "red", 4);
+
+        String[] uuid = {"uuid"};
+        Object[] a = {"a"};
+        assertEquals(1, execute(connection, statements.increment(new String[]{"kills"}, uuid, a),
+                StatementCache.parameters(new Object[]{10}, a)));
+
+        List<List<Object>> rows = query(connection, statements.select(uuid, a, "playerName", "kills"), a);
+        assertEquals(1, rows.size());
+        assertEquals("Alicia", rows.get(0).get(0));
+        assertEquals(14, ((Number) rows.get(0).get(1)).intValue());
+
+        String[] team = {"team"};
+        Object[] red = {"red"};
+        rows = query(connection, statements.selectRow(team, red, "uuid"), StatementCache.parameters(null, red, 1));
+        assertEquals(1, rows.size());
+
+        String[] order = {"uuid"};
+        rows = query(connection, statements.selectPage(team, red, order, false, false, "uuid"),
+                StatementCache.parameters(null, red, 1));
+        assertEquals(1, rows.size());
+        assertEquals("a", rows.get(0).get(0));
+        rows = query(connection, statements.selectPage(team, red, order, false, true, "uuid"),
+                StatementCache.parameters(null, red, "a", 10));
+        assertEquals(1, rows.size());
+        assertEquals("b", rows.get(0).get(0));
+
+        rows = query(connection, statements.select(team, new Object[]{null}));
+        assertEquals(0, rows.size());
+    }
+
+    private static int execute(Connection connection, String query, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.length; i++) statement.setObject(i + 1, parameters[i]);
+            return statement.executeUpdate();
+        }
+    }
+
+    private static List<List<Object>> query(Connection connection, String query, Object... parameters) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int i = 0; i < parameters.length; i++) statement.setObject(i + 1, parameters[i]);
+            try (ResultSet result = statement.executeQuery()) {
+                List<List<Object>> rows = new ArrayList<>();
+                int columns = result.getMetaData().getColumnCount();
+                while (result.next()) {
+                    List<Object> row = new ArrayList<>(columns);
+                    for (int i = 1; i <= columns; i++) row.add(result.getObject(i));
+                    rows.add(row);
+                }
+                return rows;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package it.revarmygaming.core.bungeecord;
 
 import it.revarmygaming.bungeecord.common.Chat;
+import it.revarmygaming.commonapi.db.SQLMonitor;
 import it.revarmygaming.core.BungeeCord;
 import net.md_5.bungee.api.CommandSender;
 import net.md_5.bungee.api.plugin.Command;
@@ -20,6 +21,16 @@ public class RAGCoreCommand extends Command {
                     BungeeCord.plugin.getDescription().getAuthor(), sender, true);
             if(!sender.hasPermission("ragcore.help")) {
                 Chat.send("&7/ragc reload &f- &eReloads this plugin", sender, true);
+                Chat.send("&7/ragc stats &f- &eShows the database statistics", sender, true);
+            }
+        } else if(args[0].equalsIgnoreCase("stats")) {
+            if (!sender.hasPermission("ragcore.stats")) {
+                Chat.send(BungeeCord.config.getString("messages.insufficient-perm"), sender, true);
+                return;
+            }
+
+            for(String line : SQLMonitor.report(3)) {
+                Chat.send(line, sender, true);
             }
         } else {
             if (!sender.hasPermission("ragcore.reload")) {
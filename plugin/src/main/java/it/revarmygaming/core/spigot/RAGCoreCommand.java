@@ -1,5 +1,6 @@
 package it.revarmygaming.core.spigot;
 
+import it.revarmygaming.commonapi.db.SQLMonitor;
 import it.revarmygaming.core.Spigot;
 import it.revarmygaming.spigot.common.Chat;
 import org.bukkit.command.Command;
@@ -17,6 +18,17 @@ public class RAGCoreCommand implements CommandExecutor {
                     Spigot.plugin.getDescription().getAuthors().get(0), sender, true);
             if(!sender.hasPermission("ragcore.help")) {
                 Chat.send("&7/ragc reload &f- &eReloads this plugin", sender, true);
+                Chat.send("&7/ragc stats &f- &eShows the database statistics", sender, true);
+            }
+        }
+        else if(args[0].equalsIgnoreCase("stats")) {
+            if(!sender.hasPermission("ragcore.stats")) {
+                Chat.send(Spigot.config.getString("messages.insufficient-perm"), sender, true);
+                return true;
+            }
+
+            for(String line : SQLMonitor.report(3)) {
+                Chat.send(line, sender, true);
             }
         }
         else {
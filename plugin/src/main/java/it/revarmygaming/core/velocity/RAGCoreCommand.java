@@ -4,11 +4,12 @@ import com.google.common.collect.ImmutableList;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.command.SimpleCommand;
 import com.velocitypowered.api.plugin.PluginDescription;
+import it.revarmygaming.commonapi.db.SQLMonitor;
 import it.revarmygaming.core.Velocity;
 import it.revarmygaming.velocity.common.Chat;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 public class RAGCoreCommand implements SimpleCommand {
@@ -31,6 +32,7 @@ public class RAGCoreCommand implements SimpleCommand {
                     description.getAuthors().get(0), source, true);
             if(!source.hasPermission("ragcore.help")) {
                 Chat.send("&7/ragc reload &f- &eReloads this plugin", source, true);
+                Chat.send("&7/ragc stats &f- &eShows the database statistics", source, true);
             }
         } else if(args[0].equals("reload")) {
             if (!source.hasPermission("ragcore.reload")) {
@@ -44,13 +46,22 @@ public class RAGCoreCommand implements SimpleCommand {
                 e.printStackTrace();
             }
             Chat.send(velocity.getConfig().getString("messages.plugin-reload"), source, true);
+        } else if(args[0].equals("stats")) {
+            if (!source.hasPermission("ragcore.stats")) {
+                Chat.send(velocity.getConfig().getString("messages.insufficient-perm"), source, true);
+                return;
+            }
+
+            for(String line : SQLMonitor.report(3)) {
+                Chat.send(line, source, true);
+            }
         }
     }
 
     @Override
     public List<String> suggest(Invocation invocation) {
         if(invocation.arguments().length == 1){
-            return Collections.singletonList("reload");
+            return Arrays.asList("reload", "stats");
         }
         return ImmutableList.of();
     }